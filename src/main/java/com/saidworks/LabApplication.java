@@ -0,0 +1,18 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Runs the web endpoints of the lab in one process: {@code /deferred*}, {@code /search} and {@code
+ * /recolor*}. Threading and connector settings live in {@code application.properties}; for
+ * example {@code --spring.threads.virtual.enabled=true} switches request handling from the Tomcat
+ * platform thread pool to virtual threads.
+ */
+@SpringBootApplication
+public class LabApplication {
+  public static void main(String[] args) {
+    SpringApplication.run(LabApplication.class, args);
+  }
+}
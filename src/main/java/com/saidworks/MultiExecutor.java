@@ -2,7 +2,11 @@
 package com.saidworks;
 
 import java.util.*;
-import org.springframework.scheduling.config.Task;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /*
    Thread Creation - MultiExecutor
@@ -22,23 +26,130 @@ import org.springframework.scheduling.config.Task;
 public class MultiExecutor {
 
   private List<Runnable> tasks = new ArrayList<>();
-  private Task task;
+  private final int parallelism;
 
   /*
    * @param tasks to executed concurrently
    */
   public MultiExecutor(List<Runnable> tasks) {
+    this(tasks, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param tasks to executed concurrently
+   * @param parallelism number of threads of the {@link Mode#WORK_STEALING} pool
+   */
+  public MultiExecutor(List<Runnable> tasks, int parallelism) {
     this.tasks = tasks;
+    this.parallelism = parallelism;
   }
 
   /** Starts and executes all the tasks concurrently */
   public void executeAll() {
-    List<Thread> threads = new ArrayList<>();
-    for (Runnable task : tasks) {
-      threads.add(new Thread(task));
+    executeAll(Mode.THREAD_PER_TASK);
+  }
+
+  /**
+   * Starts all the tasks concurrently in the given mode and returns without waiting for them.
+   *
+   * @return a handle to wait for completion, collect failures and read per-task timings
+   */
+  public Execution executeAll(Mode mode) {
+    Execution execution = new Execution(tasks.size());
+    switch (mode) {
+      case THREAD_PER_TASK -> {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+          threads.add(new Thread(execution.track(i, tasks.get(i))));
+        }
+        for (Thread thread : threads) {
+          thread.start();
+        }
+      }
+      case WORK_STEALING -> submitAll(Executors.newWorkStealingPool(parallelism), execution);
+      case VIRTUAL_THREADS -> submitAll(Executors.newVirtualThreadPerTaskExecutor(), execution);
     }
-    for (Thread thread : threads) {
-      thread.start();
+    return execution;
+  }
+
+  private void submitAll(ExecutorService executor, Execution execution) {
+    for (int i = 0; i < tasks.size(); i++) {
+      executor.execute(execution.track(i, tasks.get(i)));
+    }
+    // previously submitted tasks still run; the pool's threads exit once they are done
+    executor.shutdown();
+  }
+
+  public enum Mode {
+    /** A new platform thread per task: creation cost dominates short tasks. */
+    THREAD_PER_TASK,
+    /** A bounded work-stealing pool of {@code parallelism} threads. */
+    WORK_STEALING,
+    /** A new virtual thread per task. */
+    VIRTUAL_THREADS
+  }
+
+  /** Completion handle for one {@link #executeAll(Mode)} call. */
+  public static class Execution {
+    private final CountDownLatch remaining;
+    private final long[] queueTimesNanos;
+    private final long[] runTimesNanos;
+    private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+    private Execution(int numberOfTasks) {
+      this.remaining = new CountDownLatch(numberOfTasks);
+      this.queueTimesNanos = new long[numberOfTasks];
+      this.runTimesNanos = new long[numberOfTasks];
+    }
+
+    private Runnable track(int index, Runnable task) {
+      long submittedAt = System.nanoTime();
+      return () -> {
+        long startedAt = System.nanoTime();
+        queueTimesNanos[index] = startedAt - submittedAt;
+        try {
+          task.run();
+        } catch (Throwable t) {
+          failures.add(t);
+        } finally {
+          runTimesNanos[index] = System.nanoTime() - startedAt;
+          remaining.countDown();
+        }
+      };
+    }
+
+    public void await() throws InterruptedException {
+      remaining.await();
+    }
+
+    /** @return true if every task finished before the timeout */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+      return remaining.await(timeout, unit);
+    }
+
+    public boolean isDone() {
+      return remaining.getCount() == 0;
+    }
+
+    /** Exceptions thrown by the tasks that have finished so far. */
+    public List<Throwable> getFailures() {
+      return new ArrayList<>(failures);
+    }
+
+    /**
+     * Time each task waited between submission and the start of its run, indexed like the task
+     * list. Only complete once {@link #await()} has returned.
+     */
+    public long[] getQueueTimesNanos() {
+      return queueTimesNanos.clone();
+    }
+
+    /**
+     * Run time of each task, indexed like the task list. Only complete once {@link #await()} has
+     * returned.
+     */
+    public long[] getRunTimesNanos() {
+      return runTimesNanos.clone();
     }
   }
 }
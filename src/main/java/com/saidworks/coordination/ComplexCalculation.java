@@ -16,10 +16,10 @@ public class ComplexCalculation {
     PowerCalculatingThread t2 = new PowerCalculatingThread(base2, power2);
     t1.setName("First Thread");
     t2.setName("Second Thread");
-    t1.join();
-    t2.join();
     t1.start();
     t2.start();
+    t1.join();
+    t2.join();
     result = t1.getResult().add(t2.getResult());
     /*
         Calculate result = ( base1 ^ power1 ) + (base2 ^ power2).
@@ -29,6 +29,7 @@ public class ComplexCalculation {
   }
 
   private static class PowerCalculatingThread extends Thread {
+    private static final PowerEngine powerEngine = new PowerEngine();
     Logger log = LogManager.getLogger(PowerCalculatingThread.class.getName());
 
     private BigInteger result = BigInteger.ONE;
@@ -48,10 +49,7 @@ public class ComplexCalculation {
     }
 
     private BigInteger calculateResult() {
-      result = BigInteger.ONE;
-      for (int i = 1; i <= power.intValue(); i++) {
-        result = result.multiply(base);
-      }
+      result = powerEngine.pow(base, power);
       return result;
     }
 
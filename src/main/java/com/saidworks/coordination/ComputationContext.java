@@ -0,0 +1,69 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.coordination;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Cooperative cancellation and progress reporting for a {@link LongComputation}.
+ *
+ * <p>{@link #checkpoint(long)} is meant to be called on every iteration of a hot loop, so it only
+ * looks at the clock, the interrupt flag and the cancel flag once every {@code checkInterval}
+ * calls, and reports progress at the same rate.
+ */
+public final class ComputationContext {
+  private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+  private final long deadlineNanos;
+  private final int checkInterval;
+  private final ProgressListener listener;
+  private volatile boolean cancelled = false;
+  private boolean deadlineExceeded = false;
+  private int untilNextCheck;
+  private long totalWork = 0;
+
+  ComputationContext(long deadlineNanos, int checkInterval, ProgressListener listener) {
+    this.deadlineNanos = deadlineNanos;
+    this.checkInterval = checkInterval;
+    this.listener = listener;
+    this.untilNextCheck = checkInterval;
+  }
+
+  /** Context for a computation run directly on the current thread: only interrupts cancel it. */
+  public static ComputationContext forCurrentThread() {
+    return new ComputationContext(NO_DEADLINE, 1, ProgressListener.NONE);
+  }
+
+  /** Announces how much work {@link #checkpoint(long)} will count up to. */
+  public void setTotalWork(long totalWork) {
+    this.totalWork = totalWork;
+  }
+
+  /**
+   * Records that {@code workDone} units of work are finished.
+   *
+   * @throws CancellationException if the computation was cancelled, its thread interrupted or its
+   *     deadline passed
+   */
+  public void checkpoint(long workDone) {
+    if (--untilNextCheck > 0) {
+      return;
+    }
+    untilNextCheck = checkInterval;
+    if (cancelled || Thread.currentThread().isInterrupted()) {
+      throw new CancellationException("computation cancelled");
+    }
+    if (deadlineNanos != NO_DEADLINE && System.nanoTime() - deadlineNanos > 0) {
+      deadlineExceeded = true;
+      throw new CancellationException("computation deadline exceeded");
+    }
+    listener.onProgress(workDone, totalWork);
+  }
+
+  void cancel() {
+    cancelled = true;
+  }
+
+  boolean isDeadlineExceeded() {
+    return deadlineExceeded;
+  }
+}
@@ -0,0 +1,137 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.coordination;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Computes factorials as a product tree: {@code lo..hi} is split in half until the ranges are
+ * small, so the two operands of every multiplication have similar sizes instead of one growing
+ * {@link BigInteger} being multiplied by a small number {@code n} times. Sub-products run as
+ * fork/join tasks.
+ *
+ * <p>Results are cached, and {@code n!} starts from the largest factorial already known below
+ * {@code n}, so a batch of numbers shares work. {@code n!} takes O(n log n) bits, so the cache is
+ * bounded by the total bit length of the values it holds, {@link #DEFAULT_MAX_CACHED_BITS} unless
+ * given; when a new result goes over the bound, the largest cached factorials are evicted first,
+ * as they free the most memory.
+ */
+public class FactorialService {
+  /** 64 Mbit, about 8 MB of cached factorials. */
+  public static final long DEFAULT_MAX_CACHED_BITS = 1L << 26;
+
+  private static final int SEQUENTIAL_THRESHOLD = 64;
+
+  private final ForkJoinPool pool;
+  private final long maxCachedBits;
+  private final ConcurrentSkipListMap<Long, BigInteger> computed = new ConcurrentSkipListMap<>();
+  private final AtomicLong cachedBits = new AtomicLong();
+
+  public FactorialService() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  public FactorialService(ForkJoinPool pool) {
+    this(pool, DEFAULT_MAX_CACHED_BITS);
+  }
+
+  /**
+   * @param maxCachedBits bound on the total bit length of the cached factorials; 0 disables the
+   *     cache
+   */
+  public FactorialService(ForkJoinPool pool, long maxCachedBits) {
+    if (maxCachedBits < 0) {
+      throw new IllegalArgumentException("maxCachedBits must not be negative");
+    }
+    this.pool = pool;
+    this.maxCachedBits = maxCachedBits;
+  }
+
+  public BigInteger factorial(long number) {
+    if (number < 0) {
+      throw new ArithmeticException("factorial of negative number " + number);
+    }
+    if (number == 0) {
+      return BigInteger.ONE;
+    }
+    Map.Entry<Long, BigInteger> known = computed.floorEntry(number);
+    long knownNumber = known == null ? 0 : known.getKey();
+    BigInteger knownValue = known == null ? BigInteger.ONE : known.getValue();
+    if (knownNumber == number) {
+      return knownValue;
+    }
+    BigInteger product = pool.invoke(new RangeProduct(knownNumber + 1, number));
+    BigInteger result = PowerEngine.multiply(knownValue, product);
+    cache(number, result);
+    return result;
+  }
+
+  /** Total bit length of the factorials currently cached. */
+  public long getCachedBits() {
+    return cachedBits.get();
+  }
+
+  private void cache(long number, BigInteger value) {
+    if (value.bitLength() > maxCachedBits) {
+      return;
+    }
+    BigInteger previous = computed.put(number, value);
+    cachedBits.addAndGet(value.bitLength() - (previous == null ? 0 : previous.bitLength()));
+    while (cachedBits.get() > maxCachedBits) {
+      Map.Entry<Long, BigInteger> largest = computed.pollLastEntry();
+      if (largest == null) {
+        return;
+      }
+      cachedBits.addAndGet(-largest.getValue().bitLength());
+    }
+  }
+
+  /** Computes every factorial of the batch, smallest first so each one reuses the previous. */
+  public List<FactorialResult> factorials(List<Long> numbers) {
+    List<FactorialResult> results = new ArrayList<>();
+    numbers.stream()
+        .sorted()
+        .forEach(
+            number -> {
+              long start = System.nanoTime();
+              BigInteger value = factorial(number);
+              results.add(new FactorialResult(number, value, System.nanoTime() - start));
+            });
+    return results;
+  }
+
+  public record FactorialResult(long number, BigInteger value, long elapsedNanos) {}
+
+  /** Product of {@code lo..hi}, both inclusive. */
+  private static class RangeProduct extends RecursiveTask<BigInteger> {
+    private final long lo;
+    private final long hi;
+
+    RangeProduct(long lo, long hi) {
+      this.lo = lo;
+      this.hi = hi;
+    }
+
+    @Override
+    protected BigInteger compute() {
+      if (hi - lo < SEQUENTIAL_THRESHOLD) {
+        BigInteger product = BigInteger.ONE;
+        for (long i = lo; i <= hi; i++) {
+          product = product.multiply(BigInteger.valueOf(i));
+        }
+        return product;
+      }
+      long middle = (lo + hi) >>> 1;
+      RangeProduct left = new RangeProduct(lo, middle);
+      left.fork();
+      BigInteger right = new RangeProduct(middle + 1, hi).compute();
+      return PowerEngine.multiply(left.join(), right);
+    }
+  }
+}
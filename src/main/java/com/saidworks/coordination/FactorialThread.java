@@ -4,9 +4,11 @@ package com.saidworks.coordination;
 import java.math.BigInteger;
 
 public class FactorialThread extends Thread {
+  private static final FactorialService factorialService = new FactorialService();
   private long number;
   private BigInteger result;
-  private boolean isFinished;
+  private volatile boolean isFinished;
+  private long elapsedNanos;
 
   public FactorialThread(long number) {
     this.number = number;
@@ -14,16 +16,14 @@ public class FactorialThread extends Thread {
 
   @Override
   public void run() {
+    long start = System.nanoTime();
     this.result = factorial(number);
+    elapsedNanos = System.nanoTime() - start;
     isFinished = true;
   }
 
   public BigInteger factorial(long number) {
-    BigInteger tmp = BigInteger.ONE;
-    for (long i = number; i > 0; i--) {
-      tmp = tmp.multiply(BigInteger.valueOf(i));
-    }
-    return tmp;
+    return factorialService.factorial(number);
   }
 
   boolean isFinished() {
@@ -34,6 +34,10 @@ public class FactorialThread extends Thread {
     return result;
   }
 
+  long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
   public long getNumber() {
     return number;
   }
@@ -3,6 +3,7 @@ package com.saidworks.coordination;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -24,8 +25,9 @@ public class JoiningThreads {
     for (FactorialThread factorialThread : factorialThreads) {
       if (factorialThread.isFinished()) {
         logger.info(
-            "Factorial thread finished number is {} result is {}",
+            "Factorial thread finished number is {} in {} us result is {}",
             factorialThread.getNumber(),
+            TimeUnit.NANOSECONDS.toMicros(factorialThread.getElapsedNanos()),
             factorialThread.getResult());
       } else {
         logger.info("Factorial for number is still working {}", factorialThread.getNumber());
@@ -0,0 +1,13 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.coordination;
+
+/**
+ * A long-running computation run by {@link LongComputationRunner}. Implementations call {@link
+ * ComputationContext#checkpoint(long)} from their main loop; it throws a {@link
+ * java.util.concurrent.CancellationException} once the computation has been cancelled, interrupted
+ * or has passed its deadline.
+ */
+@FunctionalInterface
+public interface LongComputation<T> {
+  T compute(ComputationContext context);
+}
@@ -0,0 +1,85 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.coordination;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs {@link LongComputation}s on daemon threads and exposes each one as a {@link
+ * CompletableFuture}. The future completes with the result, with a {@link TimeoutException} as soon
+ * as the deadline passes, or is cancelled. A computation whose future timed out or was cancelled
+ * stops at its next check, which may come well after the deadline if a single step is slow.
+ */
+public class LongComputationRunner implements AutoCloseable {
+  static final int DEFAULT_CHECK_INTERVAL = 1;
+
+  private final ExecutorService executor;
+
+  public LongComputationRunner(int threads) {
+    this.executor =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              Thread thread = new Thread(runnable, "long-computation");
+              thread.setDaemon(true);
+              thread.setPriority(Thread.MIN_PRIORITY);
+              return thread;
+            });
+  }
+
+  public <T> CompletableFuture<T> submit(
+      LongComputation<T> computation, Duration timeout, ProgressListener listener) {
+    return submit(computation, timeout, DEFAULT_CHECK_INTERVAL, listener);
+  }
+
+  /**
+   * @param checkInterval how many {@link ComputationContext#checkpoint} calls to skip between
+   *     cancellation and deadline checks; raise it for loops with cheap iterations
+   */
+  public <T> CompletableFuture<T> submit(
+      LongComputation<T> computation,
+      Duration timeout,
+      int checkInterval,
+      ProgressListener listener) {
+    long deadlineNanos = System.nanoTime() + timeout.toNanos();
+    ComputationContext context = new ComputationContext(deadlineNanos, checkInterval, listener);
+    CompletableFuture<T> future = new CompletableFuture<>();
+    // completes the future at the deadline even when the computation is between checkpoints
+    future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    future.whenComplete(
+        (result, failure) -> {
+          if (failure != null) {
+            context.cancel();
+          }
+        });
+    executor.execute(
+        () -> {
+          if (future.isDone()) {
+            return;
+          }
+          try {
+            future.complete(computation.compute(context));
+          } catch (CancellationException e) {
+            if (context.isDeadlineExceeded()) {
+              future.completeExceptionally(
+                  new TimeoutException("computation did not finish within " + timeout));
+            } else {
+              future.cancel(false);
+            }
+          } catch (Throwable t) {
+            future.completeExceptionally(t);
+          }
+        });
+    return future;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+}
@@ -3,10 +3,11 @@ package com.saidworks.coordination;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.concurrent.CancellationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class LongComputationTask implements Runnable {
+public class LongComputationTask implements Runnable, LongComputation<BigDecimal> {
   private BigDecimal base;
   private BigInteger power;
 
@@ -20,17 +21,35 @@ public class LongComputationTask implements Runnable {
   @Override
   public void run() {
     log.trace("Running LongComputationTask");
-    log.info("{}^{}={}", base, power, pow(base, power));
+    try {
+      log.info("{}^{}={}", base, power, compute(ComputationContext.forCurrentThread()));
+    } catch (CancellationException e) {
+      log.error("{}  Interrupted", LongComputationTask.class.getSimpleName());
+    }
   }
 
-  protected BigDecimal pow(BigDecimal base, BigInteger exponent) {
+  @Override
+  public BigDecimal compute(ComputationContext context) {
+    return pow(base, power, context);
+  }
+
+  /**
+   * Square-and-multiply: one squaring per bit of the exponent instead of one multiplication per
+   * unit, with a checkpoint between multiplications.
+   */
+  protected BigDecimal pow(BigDecimal base, BigInteger exponent, ComputationContext context) {
+    int bits = exponent.bitLength();
+    context.setTotalWork(bits);
     BigDecimal result = BigDecimal.ONE;
-    for (BigInteger i = BigInteger.ONE; i.compareTo(exponent) != 0; i.add(BigInteger.ONE)) {
-      if (Thread.currentThread().isInterrupted()) {
-        log.error("{}  Interrupted", LongComputationTask.class.getSimpleName());
-        return BigDecimal.ZERO;
+    BigDecimal square = base;
+    for (int bit = 0; bit < bits; bit++) {
+      context.checkpoint(bit);
+      if (exponent.testBit(bit)) {
+        result = result.multiply(square);
+      }
+      if (bit < bits - 1) {
+        square = square.multiply(square);
       }
-      result = result.multiply(base);
     }
     return result;
   }
@@ -3,6 +3,7 @@ package com.saidworks.coordination;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.concurrent.CancellationException;
 
 public class LongComputationTaskDaemon extends LongComputationTask {
   private BigDecimal base;
@@ -17,16 +18,16 @@ public class LongComputationTaskDaemon extends LongComputationTask {
   @Override
   public void run() {
     log.trace("Running LongComputationTask");
-    log.info("{}^{}={}", base, power, pow(base, power));
+    try {
+      log.info("{}^{}={}", base, power, compute(ComputationContext.forCurrentThread()));
+    } catch (CancellationException e) {
+      log.error("{}  Interrupted", LongComputationTaskDaemon.class.getSimpleName());
+    }
   }
 
   @Override
-  protected BigDecimal pow(BigDecimal base, BigInteger exponent) {
-    BigDecimal result = BigDecimal.ONE;
-    for (BigInteger i = BigInteger.ONE; i.compareTo(exponent) != 0; i.add(BigInteger.ONE)) {
-      log.trace("{}^{}={}", base, power, i);
-      result = result.multiply(base);
-    }
-    return result;
+  protected BigDecimal pow(BigDecimal base, BigInteger exponent, ComputationContext context) {
+    log.trace("{}^{} over {} squarings", base, power, exponent.bitLength());
+    return super.pow(base, exponent, context);
   }
 }
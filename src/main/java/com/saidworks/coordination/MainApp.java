@@ -3,6 +3,7 @@ package com.saidworks.coordination;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.Scanner;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -28,20 +29,40 @@ public class MainApp {
   }
 
   static void longComputations() {
-    LongComputationTask longComputationTask =
-        new LongComputationTask(new BigDecimal("200000"), new BigInteger("4343445"));
-    Thread thread = new Thread(longComputationTask);
-    thread.setPriority(Thread.MIN_PRIORITY);
-    thread.start();
-    thread.interrupt();
-
-    LongComputationTaskDaemon taskDaemon =
-        new LongComputationTaskDaemon(
-            new BigDecimal("1334445452323"), new BigInteger("245435345332424"));
-    Thread thread1 = new Thread(taskDaemon);
-    thread1.setDaemon(true);
-    thread1.setPriority(Thread.MIN_PRIORITY);
-    thread1.start();
+    LongComputationRunner runner = new LongComputationRunner(2);
+    // about 23 million digits, roughly half a minute on one core
+    submit(
+        runner,
+        "LongComputationTask",
+        new LongComputationTask(new BigDecimal("200000"), new BigInteger("4343445")),
+        Duration.ofMinutes(1));
+    // 22 squarings would take tens of seconds, but each squaring before the deadline stays around
+    // 100 ms and a few MB, so the checkpoint after the deadline stops the worker soon after
+    submit(
+        runner,
+        "LongComputationTaskDaemon",
+        new LongComputationTaskDaemon(new BigDecimal("1334445452323"), new BigInteger("4194303")),
+        Duration.ofMillis(500));
+  }
+
+  private static void submit(
+      LongComputationRunner runner,
+      String name,
+      LongComputation<BigDecimal> computation,
+      Duration timeout) {
+    runner
+        .submit(
+            computation,
+            timeout,
+            (done, total) -> log.info("{} progress {}/{}", name, done, total))
+        .whenComplete(
+            (result, failure) -> {
+              if (failure != null) {
+                log.error("{} did not complete: {}", name, failure.toString());
+              } else {
+                log.info("{} finished with {} digits", name, result.precision());
+              }
+            });
   }
 
   private static class WaitingForUserInput implements Runnable {
@@ -0,0 +1,56 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.coordination;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Times {@code 7^exponent} for exponents from 10^4 to 10^6 with the original one-multiplication-
+ * per-step loop, {@link BigInteger#pow} and {@link PowerEngine}. The loop is quadratic, so it is
+ * skipped above {@link #MAX_LOOP_EXPONENT}.
+ */
+public class PowerBenchmark {
+  private static final Logger log = LogManager.getLogger(PowerBenchmark.class.getName());
+  private static final int MAX_LOOP_EXPONENT = 100_000;
+  private static final BigInteger BASE = BigInteger.valueOf(7);
+
+  public static void main(String[] args) {
+    PowerEngine powerEngine = new PowerEngine();
+    // warm up
+    powerEngine.pow(BASE, BigInteger.valueOf(100_000));
+
+    for (int exponent : new int[] {10_000, 100_000, 1_000_000}) {
+      BigInteger power = BigInteger.valueOf(exponent);
+
+      long start = System.nanoTime();
+      BigInteger expected = BASE.pow(exponent);
+      long bigIntegerPowNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      BigInteger result = powerEngine.pow(BASE, power);
+      long engineNanos = System.nanoTime() - start;
+      if (!result.equals(expected)) {
+        throw new IllegalStateException("PowerEngine disagrees with BigInteger.pow for " + exponent);
+      }
+
+      String loopMillis = "skipped";
+      if (exponent <= MAX_LOOP_EXPONENT) {
+        start = System.nanoTime();
+        BigInteger loopResult = BigInteger.ONE;
+        for (int i = 0; i < exponent; i++) {
+          loopResult = loopResult.multiply(BASE);
+        }
+        loopMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms";
+      }
+
+      log.info(
+          "7^{}: loop {}, BigInteger.pow {} ms, PowerEngine {} ms",
+          exponent,
+          loopMillis,
+          TimeUnit.NANOSECONDS.toMillis(bigIntegerPowNanos),
+          TimeUnit.NANOSECONDS.toMillis(engineNanos));
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.coordination;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes {@code base^exponent} by repeated squaring instead of {@code exponent}
+ * multiplications.
+ *
+ * <p>The squarings {@code base^1, base^2, base^4, ...} form a chain and run one after the other
+ * on the calling thread. The squares selected by the set bits of the exponent are then multiplied
+ * together by fork/join tasks that split the list of factors in half. The factors grow
+ * geometrically, so the halves are not balanced in size: the last multiplication always pairs the
+ * largest square with the product of all the smaller ones, and the forked tasks mostly finish
+ * early. Most of the speed-up therefore comes from {@link BigInteger#parallelMultiply}, which
+ * products above {@link #PARALLEL_MULTIPLY_THRESHOLD_BITS} use to spread a single multiplication
+ * over several cores.
+ */
+public class PowerEngine {
+  static final int PARALLEL_MULTIPLY_THRESHOLD_BITS = 1 << 16;
+
+  private final ForkJoinPool pool;
+
+  public PowerEngine() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  public PowerEngine(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  public BigInteger pow(BigInteger base, BigInteger exponent) {
+    if (exponent.signum() < 0) {
+      throw new ArithmeticException("negative exponent " + exponent);
+    }
+    List<BigInteger> factors = new ArrayList<>();
+    BigInteger square = base;
+    for (int bit = 0; bit < exponent.bitLength(); bit++) {
+      if (bit > 0) {
+        square = square.multiply(square);
+      }
+      if (exponent.testBit(bit)) {
+        factors.add(square);
+      }
+    }
+    if (factors.isEmpty()) {
+      return BigInteger.ONE;
+    }
+    return pool.invoke(new ProductTask(factors, 0, factors.size()));
+  }
+
+  static BigInteger multiply(BigInteger left, BigInteger right) {
+    if (left.bitLength() + right.bitLength() > PARALLEL_MULTIPLY_THRESHOLD_BITS) {
+      return left.parallelMultiply(right);
+    }
+    return left.multiply(right);
+  }
+
+  /**
+   * Multiplies {@code factors[from, to)} by splitting the range in half by count; the later half
+   * holds the larger squares, so the two halves differ widely in cost.
+   */
+  private static class ProductTask extends RecursiveTask<BigInteger> {
+    private final List<BigInteger> factors;
+    private final int from;
+    private final int to;
+
+    ProductTask(List<BigInteger> factors, int from, int to) {
+      this.factors = factors;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected BigInteger compute() {
+      if (to - from == 1) {
+        return factors.get(from);
+      }
+      int middle = (from + to) >>> 1;
+      ProductTask left = new ProductTask(factors, from, middle);
+      left.fork();
+      BigInteger right = new ProductTask(factors, middle, to).compute();
+      return multiply(left.join(), right);
+    }
+  }
+}
@@ -0,0 +1,12 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.coordination;
+
+@FunctionalInterface
+public interface ProgressListener {
+  ProgressListener NONE = (done, total) -> {};
+
+  /**
+   * @param total the total amount of work announced by the computation, or 0 if unknown
+   */
+  void onProgress(long done, long total);
+}
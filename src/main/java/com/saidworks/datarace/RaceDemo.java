@@ -1,14 +1,28 @@
 /* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
 package com.saidworks.datarace;
 
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class RaceDemo {
   private static final Logger log = LogManager.getLogger(RaceDemo.class);
 
+  /**
+   * Runs one writer and one checking reader. {@code --seqlock} or {@code --stamped} swaps the
+   * monitor-based {@link SharedClass} for {@link SeqlockSharedClass} or {@link StampedSharedClass}.
+   */
   public static void main(String[] args) {
-    SharedClass sharedClass = new SharedClass();
+    List<String> options = List.of(args);
+    SharedPair sharedClass;
+    if (options.contains("--seqlock")) {
+      sharedClass = new SeqlockSharedClass();
+    } else if (options.contains("--stamped")) {
+      sharedClass = new StampedSharedClass();
+    } else {
+      sharedClass = new SharedClass();
+    }
     Thread thread1 =
         new Thread(
             () -> {
@@ -29,12 +43,13 @@ public class RaceDemo {
     thread2.start();
   }
 
-  public static class SharedClass {
+  public static class SharedClass implements SharedPair {
     // we can use volatile as well instead of lock
     private int x = 0;
     private int y = 0;
     private final Object lock = new Object();
 
+    @Override
     public void increment() {
       synchronized (lock) {
         x++;
@@ -42,14 +57,92 @@ public class RaceDemo {
       }
     }
 
-    public void checkForDataRace() {
+    @Override
+    public int checkForDataRace() {
       synchronized (lock) {
-        if (y > x) {
-          log.error("y > x - Data Race is detected");
-        } else if (x > y) {
-          log.error("x > y - Data Race is detected");
+        return check(x, y);
+      }
+    }
+  }
+
+  /**
+   * {@link SharedClass} with the pair guarded by a {@link StampedLock}: readers try an optimistic
+   * read first and only take the read lock if a write got in the way.
+   */
+  public static class StampedSharedClass implements SharedPair {
+    private int x = 0;
+    private int y = 0;
+    private final StampedLock lock = new StampedLock();
+
+    @Override
+    public void increment() {
+      long stamp = lock.writeLock();
+      try {
+        x++;
+        y++;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    @Override
+    public int checkForDataRace() {
+      long stamp = lock.tryOptimisticRead();
+      int currentX = x;
+      int currentY = y;
+      if (!lock.validate(stamp)) {
+        stamp = lock.readLock();
+        try {
+          currentX = x;
+          currentY = y;
+        } finally {
+          lock.unlockRead(stamp);
         }
       }
+      return check(currentX, currentY);
+    }
+  }
+
+  /**
+   * {@link SharedClass} with the pair guarded by a {@link SequenceLock}: readers retry until they
+   * copy both fields without a write in between and never write shared memory.
+   */
+  public static class SeqlockSharedClass implements SharedPair {
+    private int x = 0;
+    private int y = 0;
+    private final SequenceLock lock = new SequenceLock();
+
+    @Override
+    public void increment() {
+      lock.writeLock();
+      try {
+        x++;
+        y++;
+      } finally {
+        lock.writeUnlock();
+      }
+    }
+
+    @Override
+    public int checkForDataRace() {
+      long sequence;
+      int currentX;
+      int currentY;
+      do {
+        sequence = lock.readBegin();
+        currentX = x;
+        currentY = y;
+      } while (!lock.readValidate(sequence));
+      return check(currentX, currentY);
+    }
+  }
+
+  private static int check(int x, int y) {
+    if (y > x) {
+      log.error("y > x - Data Race is detected");
+    } else if (x > y) {
+      log.error("x > y - Data Race is detected");
     }
+    return x;
   }
 }
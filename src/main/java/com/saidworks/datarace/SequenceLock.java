@@ -0,0 +1,91 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.datarace;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Sequence lock for small groups of fields that are read far more often than they are written.
+ *
+ * <p>A writer makes the sequence odd before changing the fields and even again afterwards. A reader
+ * remembers the (even) sequence, copies the fields into locals and then checks that the sequence
+ * did not move; if it did, the copy may be torn and the reader tries again. Readers never write
+ * shared memory, so they do not bounce the lock's cache line between cores the way a monitor or a
+ * read lock does. Only the copy made between {@link #readBegin()} and a successful {@link
+ * #readValidate(long)} may be used, and the guarded fields must be primitives or references that
+ * are safe to read while torn.
+ *
+ * <pre>{@code
+ * long sequence;
+ * int x, y;
+ * do {
+ *   sequence = lock.readBegin();
+ *   x = this.x;
+ *   y = this.y;
+ * } while (!lock.readValidate(sequence));
+ * }</pre>
+ */
+public final class SequenceLock {
+  // spinning on a single processor only delays the writer we are waiting for
+  private static final int SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 256 : 0;
+  private static final VarHandle SEQUENCE;
+
+  static {
+    try {
+      SEQUENCE = MethodHandles.lookup().findVarHandle(SequenceLock.class, "sequence", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private volatile long sequence;
+
+  /** Waits for any write in progress to finish and returns the sequence to validate against. */
+  public long readBegin() {
+    long current;
+    int spins = 0;
+    while (((current = sequence) & 1) != 0) {
+      spins = backOff(spins);
+    }
+    return current;
+  }
+
+  /**
+   * Returns whether the fields read since {@link #readBegin()} returned {@code sequence} are
+   * consistent.
+   */
+  public boolean readValidate(long sequence) {
+    VarHandle.acquireFence();
+    return this.sequence == sequence;
+  }
+
+  /** Starts a write, waiting for a concurrent writer to finish first. */
+  public void writeLock() {
+    int spins = 0;
+    while (true) {
+      long current = sequence;
+      if ((current & 1) == 0 && SEQUENCE.compareAndSet(this, current, current + 1)) {
+        return;
+      }
+      spins = backOff(spins);
+    }
+  }
+
+  /** Publishes the fields written since {@link #writeLock()}. */
+  public void writeUnlock() {
+    long current = sequence;
+    if ((current & 1) == 0) {
+      throw new IllegalMonitorStateException("No write in progress");
+    }
+    SEQUENCE.setRelease(this, current + 1);
+  }
+
+  private static int backOff(int spins) {
+    if (spins < SPINS) {
+      Thread.onSpinWait();
+      return spins + 1;
+    }
+    Thread.yield();
+    return spins;
+  }
+}
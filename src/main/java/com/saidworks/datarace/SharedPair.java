@@ -0,0 +1,11 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.datarace;
+
+/** Two counters that must always be seen with the same value, used by {@link RaceDemo}. */
+public interface SharedPair {
+  /** Increments both counters as one change. */
+  void increment();
+
+  /** Reads both counters and logs an error if they differ; returns the value read. */
+  int checkForDataRace();
+}
@@ -0,0 +1,82 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.datarace;
+
+import com.saidworks.datarace.RaceDemo.SeqlockSharedClass;
+import com.saidworks.datarace.RaceDemo.SharedClass;
+import com.saidworks.datarace.RaceDemo.StampedSharedClass;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * One writer incrementing a {@link SharedPair} while a growing number of readers check it, for the
+ * monitor, {@link java.util.concurrent.locks.StampedLock} and {@link SequenceLock} versions.
+ * Reports reads and writes per second.
+ */
+public class SharedPairBenchmark {
+  private static final Logger log = LogManager.getLogger(SharedPairBenchmark.class);
+  private static final long RUN_MILLIS = 1_000;
+
+  public static void main(String[] args) throws InterruptedException {
+    int processors = Runtime.getRuntime().availableProcessors();
+    for (int readers : new int[] {1, 3, Math.max(7, processors - 1)}) {
+      run("synchronized", SharedClass::new, readers);
+      run("StampedLock", StampedSharedClass::new, readers);
+      run("SequenceLock", SeqlockSharedClass::new, readers);
+    }
+  }
+
+  private static void run(String name, Supplier<SharedPair> factory, int numberOfReaders)
+      throws InterruptedException {
+    SharedPair sharedPair = factory.get();
+    LongAdder reads = new LongAdder();
+    LongAdder writes = new LongAdder();
+    LongAdder checksum = new LongAdder();
+    Thread[] threads = new Thread[numberOfReaders + 1];
+    threads[0] =
+        new Thread(
+            () -> {
+              long count = 0;
+              while (!Thread.currentThread().isInterrupted()) {
+                sharedPair.increment();
+                count++;
+              }
+              writes.add(count);
+            });
+    for (int i = 1; i <= numberOfReaders; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                long count = 0;
+                long sum = 0;
+                while (!Thread.currentThread().isInterrupted()) {
+                  sum += sharedPair.checkForDataRace();
+                  count++;
+                }
+                reads.add(count);
+                checksum.add(sum);
+              });
+    }
+
+    long start = System.nanoTime();
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    Thread.sleep(RUN_MILLIS);
+    for (Thread thread : threads) {
+      thread.interrupt();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+    log.info(
+        "{}, 1 writer, {} readers: {} reads/s, {} writes/s (checksum {})",
+        name,
+        numberOfReaders,
+        String.format("%.0f", reads.sum() / seconds),
+        String.format("%.0f", writes.sum() / seconds),
+        checksum.sum());
+  }
+}
@@ -1,15 +1,34 @@
 /* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
 package com.saidworks.deadlock;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * Two threads taking the same two locks in opposite order. A {@link DeadlockWatchdog} reports the
+ * resulting deadlock. With {@code --locks} the threads use {@link ReentrantLock}s taken
+ * interruptibly instead of monitors, and the watchdog breaks the deadlock by interrupting one of
+ * them.
+ */
 public class DeadlockExample {
   private static final Logger logger = LogManager.getLogger();
   private static final Object lock1 = new Object();
   private static final Object lock2 = new Object();
+  private static final ReentrantLock reentrantLock1 = new ReentrantLock();
+  private static final ReentrantLock reentrantLock2 = new ReentrantLock();
 
   public static void main(String[] args) {
+    boolean useLocks = List.of(args).contains("--locks");
+    new DeadlockWatchdog(500, TimeUnit.MILLISECONDS, useLocks);
+    if (useLocks) {
+      new Thread(() -> lockInOrder(1, reentrantLock1, reentrantLock2), "Thread 1").start();
+      new Thread(() -> lockInOrder(2, reentrantLock2, reentrantLock1), "Thread 2").start();
+      return;
+    }
+
     Thread thread1 =
         new Thread(
             () -> {
@@ -45,4 +64,25 @@ public class DeadlockExample {
     thread1.start();
     thread2.start();
   }
+
+  private static void lockInOrder(int thread, ReentrantLock first, ReentrantLock second) {
+    try {
+      first.lockInterruptibly();
+      try {
+        logger.info("Thread {}: Holding first lock...", thread);
+        Thread.sleep(100);
+        logger.info("Thread {}: Waiting for second lock...", thread);
+        second.lockInterruptibly();
+        try {
+          logger.info("Thread {}: Holding both locks...", thread);
+        } finally {
+          second.unlock();
+        }
+      } finally {
+        first.unlock();
+      }
+    } catch (InterruptedException e) {
+      logger.info("Thread {}: Interrupted, giving up its locks", thread);
+    }
+  }
 }
@@ -0,0 +1,178 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.deadlock;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Background thread that periodically asks the JVM for deadlocked threads with {@link
+ * ThreadMXBean#findDeadlockedThreads()} and logs every new cycle with the stacks of the threads in
+ * it.
+ *
+ * <p>Optionally it also interrupts one thread per cycle, preferring the most recently started one.
+ * Only threads waiting on a {@code java.util.concurrent} lock through an interruptible call can be
+ * freed that way; a cycle made only of {@code synchronized} blocks is reported but left alone,
+ * since interrupting a thread does not get it out of a monitor wait.
+ */
+public class DeadlockWatchdog implements AutoCloseable {
+  private static final Logger logger = LogManager.getLogger();
+
+  private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+  private final ScheduledExecutorService scheduler;
+  private final boolean interruptVictims;
+  private final Set<Long> reportedThreads = new HashSet<>();
+  private final LongAdder checks = new LongAdder();
+  private final LongAdder deadlocksDetected = new LongAdder();
+  private final LongAdder victimsInterrupted = new LongAdder();
+
+  /**
+   * Starts the watchdog.
+   *
+   * @param period time between two checks
+   * @param unit unit of {@code period}
+   * @param interruptVictims whether to interrupt one thread of every detected cycle
+   */
+  public DeadlockWatchdog(long period, TimeUnit unit, boolean interruptVictims) {
+    this.interruptVictims = interruptVictims;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "deadlock-watchdog");
+              thread.setDaemon(true);
+              return thread;
+            });
+    scheduler.scheduleWithFixedDelay(this::check, period, period, unit);
+  }
+
+  /** Number of detection passes run so far. */
+  public long getCheckCount() {
+    return checks.sum();
+  }
+
+  /** Number of distinct deadlock cycles reported so far. */
+  public long getDeadlocksDetected() {
+    return deadlocksDetected.sum();
+  }
+
+  /** Number of threads interrupted to break a cycle. */
+  public long getVictimsInterrupted() {
+    return victimsInterrupted.sum();
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  private void check() {
+    checks.increment();
+    long[] deadlockedIds = threadMXBean.findDeadlockedThreads();
+    if (deadlockedIds == null) {
+      reportedThreads.clear();
+      return;
+    }
+    ThreadInfo[] infos =
+        threadMXBean.getThreadInfo(
+            deadlockedIds,
+            threadMXBean.isObjectMonitorUsageSupported(),
+            threadMXBean.isSynchronizerUsageSupported());
+    Map<Long, ThreadInfo> byId = new HashMap<>();
+    for (ThreadInfo info : infos) {
+      if (info != null) {
+        byId.put(info.getThreadId(), info);
+      }
+    }
+    reportedThreads.retainAll(byId.keySet());
+
+    Set<Long> visited = new HashSet<>();
+    for (ThreadInfo info : byId.values()) {
+      List<ThreadInfo> cycle = findCycle(info, byId, visited);
+      if (cycle.isEmpty()
+          || cycle.stream().allMatch(member -> reportedThreads.contains(member.getThreadId()))) {
+        continue;
+      }
+      cycle.forEach(member -> reportedThreads.add(member.getThreadId()));
+      deadlocksDetected.increment();
+      logger.error("Deadlock detected:{}", describe(cycle));
+      if (interruptVictims) {
+        interruptVictim(cycle);
+      }
+    }
+  }
+
+  /**
+   * Follows the lock owners starting at {@code start} and returns the cycle it runs into, or an
+   * empty list if the walk only reaches threads already handled. Threads that are merely blocked
+   * behind a cycle are not part of it.
+   */
+  private static List<ThreadInfo> findCycle(
+      ThreadInfo start, Map<Long, ThreadInfo> byId, Set<Long> visited) {
+    List<ThreadInfo> path = new ArrayList<>();
+    ThreadInfo current = start;
+    while (current != null && visited.add(current.getThreadId())) {
+      path.add(current);
+      current = byId.get(current.getLockOwnerId());
+    }
+    if (current == null) {
+      return List.of();
+    }
+    int cycleStart = path.indexOf(current);
+    return cycleStart < 0 ? List.of() : path.subList(cycleStart, path.size());
+  }
+
+  private static String describe(List<ThreadInfo> cycle) {
+    StringBuilder description = new StringBuilder();
+    for (ThreadInfo info : cycle) {
+      description
+          .append(System.lineSeparator())
+          .append('"')
+          .append(info.getThreadName())
+          .append("\" ")
+          .append(info.getThreadState())
+          .append(" waiting for ")
+          .append(info.getLockName())
+          .append(" held by \"")
+          .append(info.getLockOwnerName())
+          .append('"');
+      for (StackTraceElement frame : info.getStackTrace()) {
+        description.append(System.lineSeparator()).append("\tat ").append(frame);
+      }
+    }
+    return description.toString();
+  }
+
+  private void interruptVictim(List<ThreadInfo> cycle) {
+    // BLOCKED threads wait for a monitor, which an interrupt cannot break
+    ThreadInfo victim =
+        cycle.stream()
+            .filter(info -> info.getThreadState() != Thread.State.BLOCKED)
+            .max(Comparator.comparingLong(ThreadInfo::getThreadId))
+            .orElse(null);
+    if (victim == null) {
+      logger.warn("Deadlock is on monitors only, interrupting would not break it");
+      return;
+    }
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.threadId() == victim.getThreadId()) {
+        logger.warn("Interrupting \"{}\" to break the deadlock", thread.getName());
+        thread.interrupt();
+        victimsInterrupted.increment();
+        return;
+      }
+    }
+  }
+}
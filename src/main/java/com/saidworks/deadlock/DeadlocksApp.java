@@ -1,7 +1,9 @@
 /* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
 package com.saidworks.deadlock;
 
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -10,9 +12,26 @@ import org.apache.logging.log4j.Logger;
  * locks on shared resources (roadA and roadB) in a way that can lead to a deadlock.
  */
 public class DeadlocksApp {
+  /**
+   * Runs the two trains forever. {@code --ordered} routes them through an {@link
+   * OrderedIntersection} and {@code --allocator} through an {@link AllocatedIntersection} instead
+   * of nested {@code synchronized} blocks, and {@code --watchdog} starts a {@link DeadlockWatchdog}
+   * that reports any deadlock the trains run into.
+   */
   public static void main(String[] args) {
+    List<String> options = List.of(args);
     // Create an Intersection object to manage shared resources
-    Intersection intersection = new Intersection();
+    Intersection intersection;
+    if (options.contains("--ordered")) {
+      intersection = new OrderedIntersection(new OrderedLockManager());
+    } else if (options.contains("--allocator")) {
+      intersection = new AllocatedIntersection();
+    } else {
+      intersection = new SynchronizedIntersection();
+    }
+    if (options.contains("--watchdog")) {
+      new DeadlockWatchdog(1, TimeUnit.SECONDS, false);
+    }
 
     // Create and start threads for Train A and Train B
     Thread trainAThread = new Thread(new TrainA(intersection));
@@ -39,16 +58,16 @@ public class DeadlocksApp {
       this.intersection = intersection;
     }
 
-    /** Continuously attempts to pass through road B, simulating random delays. */
+    /** Attempts to pass through road B until interrupted, simulating random delays. */
     @Override
     public void run() {
-      while (true) {
+      while (!Thread.currentThread().isInterrupted()) {
         long sleepingTime = random.nextInt(5); // Random delay before attempting to pass
-        log.info("Train B deparated");
+        log.debug("Train B departed");
         try {
           Thread.sleep(sleepingTime);
         } catch (InterruptedException e) {
-          // Handle interruption
+          return; // Stop the train
         }
 
         intersection.takeRoadB(); // Attempt to take road B
@@ -71,16 +90,16 @@ public class DeadlocksApp {
       this.intersection = intersection;
     }
 
-    /** Continuously attempts to pass through road A, simulating random delays. */
+    /** Attempts to pass through road A until interrupted, simulating random delays. */
     @Override
     public void run() {
-      while (true) {
+      while (!Thread.currentThread().isInterrupted()) {
         long sleepingTime = random.nextInt(5); // Random delay before attempting to pass
-        log.info("Train A deparated");
+        log.debug("Train A departed");
         try {
           Thread.sleep(sleepingTime);
         } catch (InterruptedException e) {
-          // Handle interruption
+          return; // Stop the train
         }
 
         intersection.takeRoadA(); // Attempt to take road A
@@ -88,30 +107,48 @@ public class DeadlocksApp {
     }
   }
 
+  /** Intersection manages the shared resources (roadA and roadB) the trains need to pass. */
+  public interface Intersection {
+    /** Lets the calling train pass through road A. */
+    void takeRoadA();
+
+    /** Lets the calling train pass through road B. */
+    void takeRoadB();
+  }
+
   /**
-   * Intersection manages the shared resources (roadA and roadB) and provides synchronized methods
-   * to ensure thread-safe access.
+   * Intersection that guards both roads with nested {@code synchronized} blocks. Both methods take
+   * roadB before roadA; taking them in different orders is what makes the trains deadlock.
    */
-  public static class Intersection {
-    Logger log = LogManager.getLogger(Intersection.class);
+  public static class SynchronizedIntersection implements Intersection {
+    Logger log = LogManager.getLogger(SynchronizedIntersection.class);
     private final Object roadA = new Object(); // Lock for road A
     private final Object roadB = new Object(); // Lock for road B
+    private final long passingMillis;
+
+    public SynchronizedIntersection() {
+      this(1);
+    }
+
+    /**
+     * @param passingMillis how long a train occupies the intersection, 0 for no delay
+     */
+    public SynchronizedIntersection(long passingMillis) {
+      this.passingMillis = passingMillis;
+    }
 
     /**
      * Allows a thread to take road A by acquiring locks on roadA and roadB. Logs the thread's
      * actions.
      */
+    @Override
     public void takeRoadA() {
       synchronized (roadB) {
-        log.info("Road A is locked by thread {}", Thread.currentThread().getName());
+        log.debug("Road A is locked by thread {}", Thread.currentThread().getName());
 
         synchronized (roadA) {
-          log.info("Train is passing through road A");
-          try {
-            Thread.sleep(1); // Simulate train passing
-          } catch (InterruptedException e) {
-            // Handle interruption
-          }
+          log.debug("Train is passing through road A");
+          pass(passingMillis);
         }
       }
     }
@@ -120,19 +157,125 @@ public class DeadlocksApp {
      * Allows a thread to take road B by acquiring locks on roadB and roadA. Logs the thread's
      * actions.
      */
+    @Override
     public void takeRoadB() {
       synchronized (roadB) {
-        log.info("Road B is locked by thread {}", Thread.currentThread().getName());
+        log.debug("Road B is locked by thread {}", Thread.currentThread().getName());
 
         synchronized (roadA) {
-          log.info("Train is passing through road B");
-          try {
-            Thread.sleep(1); // Simulate train passing
-          } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // Restore interrupted status
-          }
+          log.debug("Train is passing through road B");
+          pass(passingMillis);
         }
       }
     }
   }
+
+  /**
+   * Intersection whose roads are registered with an {@link OrderedLockManager}, so each train asks
+   * for both roads at once and the manager takes them in its global order. The order the roads are
+   * named in no longer matters.
+   */
+  public static class OrderedIntersection implements Intersection {
+    Logger log = LogManager.getLogger(OrderedIntersection.class);
+    private final OrderedLockManager lockManager;
+    private final OrderedLockManager.OrderedLock roadA;
+    private final OrderedLockManager.OrderedLock roadB;
+    private final long passingMillis;
+
+    public OrderedIntersection(OrderedLockManager lockManager) {
+      this(lockManager, 1);
+    }
+
+    /**
+     * @param lockManager manager the roads are registered with
+     * @param passingMillis how long a train occupies the intersection, 0 for no delay
+     */
+    public OrderedIntersection(OrderedLockManager lockManager, long passingMillis) {
+      this.lockManager = lockManager;
+      this.roadA = lockManager.register("roadA");
+      this.roadB = lockManager.register("roadB");
+      this.passingMillis = passingMillis;
+    }
+
+    @Override
+    public void takeRoadA() {
+      try (OrderedLockManager.HeldLocks roads = lockManager.acquireAll(roadB, roadA)) {
+        log.debug("Train is passing through road A");
+        pass(passingMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt(); // Restore interrupted status
+      }
+    }
+
+    @Override
+    public void takeRoadB() {
+      try (OrderedLockManager.HeldLocks roads = lockManager.acquireAll(roadA, roadB)) {
+        log.debug("Train is passing through road B");
+        pass(passingMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt(); // Restore interrupted status
+      }
+    }
+  }
+
+  /**
+   * Intersection whose roads are two resources of a {@link ResourceAllocator}. A crossing asks for
+   * both roads in a single compare-and-set, so no train ever holds one road while waiting for the
+   * other.
+   */
+  public static class AllocatedIntersection implements Intersection {
+    Logger log = LogManager.getLogger(AllocatedIntersection.class);
+    private static final int ROAD_A = 0;
+    private static final int ROAD_B = 1;
+    private final ResourceAllocator allocator = new ResourceAllocator(2);
+    private final long bothRoads = allocator.maskOf(ROAD_A, ROAD_B);
+    private final long passingMillis;
+
+    public AllocatedIntersection() {
+      this(1);
+    }
+
+    /**
+     * @param passingMillis how long a train occupies the intersection, 0 for no delay
+     */
+    public AllocatedIntersection(long passingMillis) {
+      this.passingMillis = passingMillis;
+    }
+
+    @Override
+    public void takeRoadA() {
+      cross("A");
+    }
+
+    @Override
+    public void takeRoadB() {
+      cross("B");
+    }
+
+    private void cross(String road) {
+      try {
+        allocator.acquire(bothRoads);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt(); // Restore interrupted status
+        return;
+      }
+      try {
+        log.debug("Train is passing through road {}", road);
+        pass(passingMillis);
+      } finally {
+        allocator.release(bothRoads);
+      }
+    }
+  }
+
+  private static void pass(long passingMillis) {
+    if (passingMillis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(passingMillis); // Simulate train passing
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt(); // Restore interrupted status
+    }
+  }
 }
@@ -0,0 +1,183 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.deadlock;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out locks with a global rank and acquires sets of them in rank order, so two callers going
+ * through the manager can never wait on each other in a cycle no matter in which order they name
+ * the locks.
+ *
+ * <p>Every lock is taken with a timed {@code tryLock}. If one cannot be had in time, the locks
+ * taken so far are released and the whole set is retried after a randomised exponential backoff,
+ * so a caller that also holds locks the manager does not know about backs off instead of hanging.
+ * Locks that are needed together should be acquired in a single {@link #acquireAll} call; nesting
+ * calls is only safe if the inner set ranks strictly above the outer one.
+ */
+public class OrderedLockManager {
+  private static final long DEFAULT_TRY_LOCK_MILLIS = 50;
+  private static final long MIN_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final AtomicInteger nextRank = new AtomicInteger();
+  private final long tryLockNanos;
+  private final LongAdder acquisitions = new LongAdder();
+  private final LongAdder backoffs = new LongAdder();
+
+  public OrderedLockManager() {
+    this(DEFAULT_TRY_LOCK_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @param tryLockTimeout how long to wait for each lock of a set before backing off
+   * @param unit unit of {@code tryLockTimeout}
+   */
+  public OrderedLockManager(long tryLockTimeout, TimeUnit unit) {
+    if (tryLockTimeout < 0) {
+      throw new IllegalArgumentException("tryLockTimeout must not be negative");
+    }
+    this.tryLockNanos = unit.toNanos(tryLockTimeout);
+  }
+
+  /** Creates a lock ranked after every lock registered before it. */
+  public OrderedLock register(String name) {
+    return new OrderedLock(name, nextRank.getAndIncrement());
+  }
+
+  /**
+   * Acquires all the given locks in rank order, backing off and retrying until it has all of them.
+   * Duplicates are acquired once.
+   *
+   * @return a handle that releases the locks when closed
+   * @throws InterruptedException if interrupted while waiting; no lock of the set is held then
+   */
+  public HeldLocks acquireAll(OrderedLock... locks) throws InterruptedException {
+    OrderedLock[] ordered = canonicalOrder(locks);
+    long backoffNanos = MIN_BACKOFF_NANOS;
+    while (true) {
+      int acquired = tryAcquire(ordered);
+      if (acquired == ordered.length) {
+        acquisitions.increment();
+        return new HeldLocks(ordered);
+      }
+      release(ordered, acquired);
+      backoffs.increment();
+      LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(backoffNanos) + 1);
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      backoffNanos = Math.min(backoffNanos * 2, MAX_BACKOFF_NANOS);
+    }
+  }
+
+  /** Number of lock sets acquired so far. */
+  public long getAcquisitionCount() {
+    return acquisitions.sum();
+  }
+
+  /** Number of times an acquisition released a partial set and backed off. */
+  public long getBackoffCount() {
+    return backoffs.sum();
+  }
+
+  private OrderedLock[] canonicalOrder(OrderedLock[] locks) {
+    if (locks.length == 0) {
+      throw new IllegalArgumentException("At least one lock is required");
+    }
+    OrderedLock[] ordered = locks.clone();
+    for (OrderedLock lock : ordered) {
+      if (lock.manager() != this) {
+        throw new IllegalArgumentException(lock + " was not registered with this manager");
+      }
+    }
+    Arrays.sort(ordered, Comparator.comparingInt(OrderedLock::getRank));
+    int distinct = 1;
+    for (int i = 1; i < ordered.length; i++) {
+      if (ordered[i] != ordered[distinct - 1]) {
+        ordered[distinct++] = ordered[i];
+      }
+    }
+    return distinct == ordered.length ? ordered : Arrays.copyOf(ordered, distinct);
+  }
+
+  /** Returns how many locks of the set were acquired, in order, before one timed out. */
+  private int tryAcquire(OrderedLock[] ordered) throws InterruptedException {
+    for (int i = 0; i < ordered.length; i++) {
+      boolean acquired;
+      try {
+        acquired = ordered[i].lock.tryLock(tryLockNanos, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        release(ordered, i);
+        throw e;
+      }
+      if (!acquired) {
+        return i;
+      }
+    }
+    return ordered.length;
+  }
+
+  private static void release(OrderedLock[] ordered, int count) {
+    for (int i = count - 1; i >= 0; i--) {
+      ordered[i].lock.unlock();
+    }
+  }
+
+  /** A reentrant lock with a fixed position in the manager's global order. */
+  public final class OrderedLock {
+    private final String name;
+    private final int rank;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private OrderedLock(String name, int rank) {
+      this.name = name;
+      this.rank = rank;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public int getRank() {
+      return rank;
+    }
+
+    public boolean isHeldByCurrentThread() {
+      return lock.isHeldByCurrentThread();
+    }
+
+    private OrderedLockManager manager() {
+      return OrderedLockManager.this;
+    }
+
+    @Override
+    public String toString() {
+      return name + "#" + rank;
+    }
+  }
+
+  /** The locks of one {@link #acquireAll} call; closing it releases them in reverse order. */
+  public static final class HeldLocks implements AutoCloseable {
+    private final OrderedLock[] locks;
+    private boolean released;
+
+    private HeldLocks(OrderedLock[] locks) {
+      this.locks = locks;
+    }
+
+    @Override
+    public void close() {
+      if (!released) {
+        released = true;
+        release(locks, locks.length);
+      }
+    }
+  }
+}
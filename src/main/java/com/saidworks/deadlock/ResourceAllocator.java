@@ -0,0 +1,133 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.deadlock;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Grants sets of up to 64 resources all at once. The resources held are the bits of a single
+ * {@code long}, and a set is granted with one compare-and-set that only succeeds if none of its
+ * bits are taken. A thread therefore never holds part of a set while waiting for the rest, which
+ * rules out deadlocks between users of the allocator by construction.
+ *
+ * <p>Threads that cannot be served spin briefly (not on a single processor), then park in a
+ * lock-free wait queue. A release wakes the waiters that need one of the released resources and
+ * could now get their whole set. Like a {@link java.util.concurrent.Semaphore}, the allocator does
+ * not track which thread holds what, and it does not guarantee fairness: a train asking for many
+ * resources can be overtaken by trains asking for fewer.
+ */
+public class ResourceAllocator {
+  public static final int MAX_RESOURCES = Long.SIZE;
+  private static final int SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 128 : 0;
+
+  private final int numberOfResources;
+  private final AtomicLong held = new AtomicLong();
+  private final ConcurrentLinkedQueue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+  public ResourceAllocator(int numberOfResources) {
+    if (numberOfResources < 1 || numberOfResources > MAX_RESOURCES) {
+      throw new IllegalArgumentException(
+          "numberOfResources must be between 1 and " + MAX_RESOURCES + ": " + numberOfResources);
+    }
+    this.numberOfResources = numberOfResources;
+  }
+
+  public int getNumberOfResources() {
+    return numberOfResources;
+  }
+
+  /** Returns the set made of the given resource indexes. */
+  public long maskOf(int... resources) {
+    long mask = 0;
+    for (int resource : resources) {
+      if (resource < 0 || resource >= numberOfResources) {
+        throw new IndexOutOfBoundsException("No resource " + resource);
+      }
+      mask |= 1L << resource;
+    }
+    return checkMask(mask);
+  }
+
+  /** Takes every resource of {@code mask} if all of them are free right now. */
+  public boolean tryAcquire(long mask) {
+    return grant(checkMask(mask));
+  }
+
+  /**
+   * Takes every resource of {@code mask}, waiting until all of them are free at the same time.
+   *
+   * @throws InterruptedException if interrupted while waiting; nothing is held then
+   */
+  public void acquire(long mask) throws InterruptedException {
+    checkMask(mask);
+    for (int i = 0; i <= SPINS; i++) {
+      if (grant(mask)) {
+        return;
+      }
+      Thread.onSpinWait();
+    }
+    Waiter waiter = new Waiter(Thread.currentThread(), mask);
+    waiters.add(waiter);
+    try {
+      // queued before retrying, so a release either lets this attempt succeed or unparks us
+      while (!grant(mask)) {
+        LockSupport.park(this);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+    } finally {
+      waiters.remove(waiter);
+    }
+  }
+
+  /**
+   * Frees every resource of {@code mask}.
+   *
+   * @throws IllegalStateException if one of them is not held
+   */
+  public void release(long mask) {
+    checkMask(mask);
+    long current;
+    do {
+      current = held.get();
+      if ((current & mask) != mask) {
+        throw new IllegalStateException("Releasing resources that are not held");
+      }
+    } while (!held.compareAndSet(current, current & ~mask));
+
+    for (Waiter waiter : waiters) {
+      if ((waiter.mask & mask) != 0 && (held.get() & waiter.mask) == 0) {
+        LockSupport.unpark(waiter.thread);
+      }
+    }
+  }
+
+  /** Resources currently held, one bit per resource. */
+  public long heldMask() {
+    return held.get();
+  }
+
+  private boolean grant(long mask) {
+    long current;
+    while (((current = held.get()) & mask) == 0) {
+      if (held.compareAndSet(current, current | mask)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private long checkMask(long mask) {
+    if (mask == 0) {
+      throw new IllegalArgumentException("At least one resource is required");
+    }
+    if (numberOfResources < MAX_RESOURCES && (mask >>> numberOfResources) != 0) {
+      throw new IllegalArgumentException("Mask names resources beyond " + numberOfResources);
+    }
+    return mask;
+  }
+
+  private record Waiter(Thread thread, long mask) {}
+}
@@ -0,0 +1,158 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.deadlock;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Scales the intersection up to a ring of {@link #ROADS} roads shared by many trains. Every
+ * crossing occupies two neighbouring roads for a few microseconds, so trains on distant roads do
+ * not get in each other's way. Each strategy is timed for a fixed duration and reports crossings per second
+ * and percentiles of the time trains waited for their roads:
+ *
+ * <ul>
+ *   <li>a single monitor around the whole network, the coarse-grained baseline,
+ *   <li>the {@link OrderedLockManager} with one lock per road,
+ *   <li>the {@link ResourceAllocator} granting both roads with one compare-and-set.
+ * </ul>
+ *
+ * None of them can deadlock: the monitor is a single lock, the manager takes roads in a global
+ * order, and the allocator never lets a train hold one road while waiting for the other.
+ */
+public class TrainNetworkSimulation {
+  private static final Logger logger = LogManager.getLogger();
+  private static final int ROADS = 16;
+  private static final long RUN_MILLIS = 2_000;
+  private static final long PASSING_NANOS = TimeUnit.MICROSECONDS.toNanos(2);
+  private static final int WAIT_SAMPLES_PER_TRAIN = 1 << 16;
+
+  public static void main(String[] args) throws InterruptedException {
+    for (int trains : new int[] {2, 8, 32, 64}) {
+      run("single monitor", trains, monitorNetwork());
+      run("ordered locks", trains, orderedLockNetwork());
+      run("resource allocator", trains, allocatorNetwork());
+    }
+  }
+
+  /** Occupies both roads of a crossing while running {@code passing}. */
+  private interface Network {
+    void cross(int firstRoad, int secondRoad, Runnable passing) throws InterruptedException;
+  }
+
+  private static Network monitorNetwork() {
+    Object network = new Object();
+    return (firstRoad, secondRoad, passing) -> {
+      synchronized (network) {
+        passing.run();
+      }
+    };
+  }
+
+  private static Network orderedLockNetwork() {
+    OrderedLockManager lockManager = new OrderedLockManager();
+    OrderedLockManager.OrderedLock[] roads = new OrderedLockManager.OrderedLock[ROADS];
+    for (int road = 0; road < ROADS; road++) {
+      roads[road] = lockManager.register("road " + road);
+    }
+    return (firstRoad, secondRoad, passing) -> {
+      try (OrderedLockManager.HeldLocks held =
+          lockManager.acquireAll(roads[firstRoad], roads[secondRoad])) {
+        passing.run();
+      }
+    };
+  }
+
+  private static Network allocatorNetwork() {
+    ResourceAllocator allocator = new ResourceAllocator(ROADS);
+    return (firstRoad, secondRoad, passing) -> {
+      long roads = allocator.maskOf(firstRoad, secondRoad);
+      allocator.acquire(roads);
+      try {
+        passing.run();
+      } finally {
+        allocator.release(roads);
+      }
+    };
+  }
+
+  private static void run(String name, int numberOfTrains, Network network)
+      throws InterruptedException {
+    long[][] waits = new long[numberOfTrains][WAIT_SAMPLES_PER_TRAIN];
+    long[] crossings = new long[numberOfTrains];
+    Thread[] trains = new Thread[numberOfTrains];
+    for (int i = 0; i < numberOfTrains; i++) {
+      int train = i;
+      trains[i] =
+          new Thread(
+              () -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long count = 0;
+                try {
+                  while (!Thread.currentThread().isInterrupted()) {
+                    int road = random.nextInt(ROADS);
+                    long requested = System.nanoTime();
+                    network.cross(
+                        road,
+                        (road + 1) % ROADS,
+                        () -> {
+                          waits[train][(int) (crossings[train] % WAIT_SAMPLES_PER_TRAIN)] =
+                              System.nanoTime() - requested;
+                          busyPass();
+                        });
+                    crossings[train] = ++count;
+                  }
+                } catch (InterruptedException e) {
+                  // Stop the train
+                }
+              },
+              "Train " + i);
+    }
+
+    long start = System.nanoTime();
+    for (Thread train : trains) {
+      train.start();
+    }
+    Thread.sleep(RUN_MILLIS);
+    for (Thread train : trains) {
+      train.interrupt();
+    }
+    for (Thread train : trains) {
+      train.join();
+    }
+    long elapsedNanos = System.nanoTime() - start;
+
+    long total = Arrays.stream(crossings).sum();
+    long[] sampledWaits = new long[0];
+    for (int train = 0; train < numberOfTrains; train++) {
+      int samples = (int) Math.min(crossings[train], WAIT_SAMPLES_PER_TRAIN);
+      int offset = sampledWaits.length;
+      sampledWaits = Arrays.copyOf(sampledWaits, offset + samples);
+      System.arraycopy(waits[train], 0, sampledWaits, offset, samples);
+    }
+    Arrays.sort(sampledWaits);
+    logger.info(
+        "{}, {} trains: {} crossings/s, wait p50 {} us p99 {} us p99.9 {} us",
+        name,
+        numberOfTrains,
+        String.format("%.0f", total * 1e9 / elapsedNanos),
+        TimeUnit.NANOSECONDS.toMicros(percentile(sampledWaits, 0.50)),
+        TimeUnit.NANOSECONDS.toMicros(percentile(sampledWaits, 0.99)),
+        TimeUnit.NANOSECONDS.toMicros(percentile(sampledWaits, 0.999)));
+  }
+
+  private static void busyPass() {
+    long until = System.nanoTime() + PASSING_NANOS;
+    while (System.nanoTime() < until) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private static long percentile(long[] sorted, double fraction) {
+    return sorted.length == 0
+        ? 0
+        : sorted[(int) Math.min(sorted.length - 1, sorted.length * fraction)];
+  }
+}
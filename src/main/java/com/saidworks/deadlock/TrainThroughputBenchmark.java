@@ -0,0 +1,114 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.deadlock;
+
+import com.saidworks.deadlock.DeadlocksApp.AllocatedIntersection;
+import com.saidworks.deadlock.DeadlocksApp.Intersection;
+import com.saidworks.deadlock.DeadlocksApp.OrderedIntersection;
+import com.saidworks.deadlock.DeadlocksApp.SynchronizedIntersection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Measures how many trains per second get through the intersection with nested {@code
+ * synchronized} blocks, with the {@link OrderedLockManager} and with the {@link
+ * ResourceAllocator}, each with and without a {@link DeadlockWatchdog} polling in the background.
+ * Trains run back to back without departure delays, once with no passing time so the locking
+ * itself is measured and once with the 1 ms the demo uses.
+ */
+public class TrainThroughputBenchmark {
+  private static final Logger logger = LogManager.getLogger();
+  private static final long RUN_MILLIS = 2_000;
+  private static final long WATCHDOG_PERIOD_MILLIS = 100;
+
+  public static void main(String[] args) throws InterruptedException {
+    for (long passingMillis : new long[] {0, 1}) {
+      for (int trains : new int[] {2, 8}) {
+        run("synchronized", SynchronizedIntersection::new, passingMillis, trains, false);
+        run("synchronized", SynchronizedIntersection::new, passingMillis, trains, true);
+        OrderedLockManager lockManager = new OrderedLockManager();
+        run(
+            "ordered",
+            millis -> new OrderedIntersection(lockManager, millis),
+            passingMillis,
+            trains,
+            false);
+        run(
+            "ordered",
+            millis -> new OrderedIntersection(lockManager, millis),
+            passingMillis,
+            trains,
+            true);
+        logger.info(
+            "ordered: {} acquisitions needed {} backoffs",
+            lockManager.getAcquisitionCount(),
+            lockManager.getBackoffCount());
+        run("allocator", AllocatedIntersection::new, passingMillis, trains, false);
+        run("allocator", AllocatedIntersection::new, passingMillis, trains, true);
+      }
+    }
+  }
+
+  private static void run(
+      String name,
+      LongFunction<Intersection> factory,
+      long passingMillis,
+      int numberOfTrains,
+      boolean withWatchdog)
+      throws InterruptedException {
+    Intersection intersection = factory.apply(passingMillis);
+    DeadlockWatchdog watchdog =
+        withWatchdog
+            ? new DeadlockWatchdog(WATCHDOG_PERIOD_MILLIS, TimeUnit.MILLISECONDS, true)
+            : null;
+    LongAdder crossings = new LongAdder();
+
+    Thread[] trains = new Thread[numberOfTrains];
+    for (int i = 0; i < numberOfTrains; i++) {
+      boolean roadA = i % 2 == 0;
+      trains[i] =
+          new Thread(
+              () -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                  if (roadA) {
+                    intersection.takeRoadA();
+                  } else {
+                    intersection.takeRoadB();
+                  }
+                  crossings.increment();
+                }
+              },
+              "Train " + i);
+    }
+    long start = System.nanoTime();
+    for (Thread train : trains) {
+      train.start();
+    }
+    Thread.sleep(RUN_MILLIS);
+    for (Thread train : trains) {
+      train.interrupt();
+    }
+    for (Thread train : trains) {
+      train.join();
+    }
+    long elapsedNanos = System.nanoTime() - start;
+
+    String watchdogSummary = "no watchdog";
+    if (watchdog != null) {
+      watchdog.close();
+      watchdogSummary =
+          String.format(
+              "watchdog: %d checks, %d deadlocks",
+              watchdog.getCheckCount(), watchdog.getDeadlocksDetected());
+    }
+    logger.info(
+        "{} intersection, {} trains, {} ms passing, {}: {} crossings/s",
+        name,
+        numberOfTrains,
+        passingMillis,
+        watchdogSummary,
+        String.format("%.0f", crossings.sum() * 1e9 / elapsedNanos));
+  }
+}
@@ -5,6 +5,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.*;
+import java.util.function.IntConsumer;
 
 /**
  * This class demonstrates the use of Atomic variables in Java.
@@ -18,6 +19,7 @@ import java.util.concurrent.atomic.*;
  * 3. Atomic arrays
  * 4. Atomic field updaters
  * 5. Atomic accumulators and adders
+ * 6. False sharing between counters that sit on the same cache line
  */
 public class AtomicVariablesExample {
 
@@ -329,6 +331,64 @@ public class AtomicVariablesExample {
                 + (atomicCounter.getCount() == NUM_THREADS * INCREMENTS_PER_THREAD ? "correct" : "incorrect"));
     }
 
+    /**
+     * Compares per-thread counters packed next to each other with padded ones. Each thread only touches its own
+     * counter, but packed counters share cache lines, so every increment invalidates the line for the other threads.
+     * See {@link FalseSharingBenchmark} for the full comparison across thread counts.
+     */
+    private static void compareFalseSharing() {
+        System.out.println("\n--- False Sharing: Packed vs Padded Counters ---");
+
+        final int NUM_THREADS = 4;
+        final int INCREMENTS_PER_THREAD = 10_000_000;
+
+        AtomicLongArray packedCounters = new AtomicLongArray(NUM_THREADS);
+        PaddedCounter[] paddedCounters = new PaddedCounter[NUM_THREADS];
+        for (int i = 0; i < NUM_THREADS; i++) {
+            paddedCounters[i] = new PaddedCounter();
+        }
+
+        long packedDuration = timeThreads(NUM_THREADS, index -> {
+            for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+                packedCounters.incrementAndGet(index);
+            }
+        });
+        long paddedDuration = timeThreads(NUM_THREADS, index -> {
+            for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+                paddedCounters[index].increment();
+            }
+        });
+
+        System.out.println("Packed counters time: " + packedDuration + " ms");
+        System.out.println("Padded counters time: " + paddedDuration + " ms");
+        System.out.println("Available processors: " + Runtime.getRuntime().availableProcessors()
+                + " (false sharing only shows up when the threads run on different cores)");
+    }
+
+    /**
+     * Runs {@code work} on the given number of threads, passing each its index, and returns the elapsed milliseconds.
+     */
+    private static long timeThreads(int numberOfThreads, IntConsumer work) {
+        Thread[] threads = new Thread[numberOfThreads];
+        for (int i = 0; i < numberOfThreads; i++) {
+            final int index = i;
+            threads[i] = new Thread(() -> work.accept(index));
+        }
+
+        long startTime = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return (System.nanoTime() - startTime) / 1_000_000; // Convert to milliseconds
+    }
+
     /**
      * Runs all atomic variables examples.
      */
@@ -341,6 +401,7 @@ public class AtomicVariablesExample {
         demonstrateFieldUpdaters();
         demonstrateAdders();
         compareCounterPerformance();
+        compareFalseSharing();
 
         System.out.println("Atomic Variables Example completed");
     }
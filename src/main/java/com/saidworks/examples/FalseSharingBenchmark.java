@@ -0,0 +1,90 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.examples;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntFunction;
+
+/**
+ * Shows what false sharing costs: every thread updates only its own counter, yet with packed counters the threads
+ * still fight over cache lines because their counters sit next to each other in memory.
+ *
+ * For 1 to N threads it times per-thread counters laid out as adjacent {@link AtomicLongArray} slots, as
+ * {@link AtomicLong}s allocated back to back and as {@link PaddedCounter}s, and per-thread maximum accumulators as
+ * adjacent array slots and as {@link PaddedAccumulator}s. It prints the throughput of a single thread: with a padded
+ * layout it should stay flat as threads are added (up to the number of cores), with a packed one it drops.
+ */
+public class FalseSharingBenchmark {
+    private static final int OPERATIONS_PER_THREAD = 20_000_000;
+
+    /** Per-thread update for thread {@code index}, called {@code OPERATIONS_PER_THREAD} times. */
+    private interface Updater {
+        void update(int index, long value);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int processors = Runtime.getRuntime().availableProcessors();
+        System.out.println("Available processors: " + processors);
+        for (int threads : new int[] {1, 2, 4, 8, Math.max(16, processors)}) {
+            System.out.println("\n" + threads + " threads, operations/s per thread:");
+            run("  packed AtomicLongArray counters", threads, count -> {
+                AtomicLongArray counters = new AtomicLongArray(count);
+                return (index, value) -> counters.incrementAndGet(index);
+            });
+            run("  packed AtomicLong counters", threads, count -> {
+                AtomicLong[] counters = new AtomicLong[count];
+                for (int i = 0; i < count; i++) {
+                    counters[i] = new AtomicLong();
+                }
+                return (index, value) -> counters[index].incrementAndGet();
+            });
+            run("  padded counters", threads, count -> {
+                PaddedCounter[] counters = new PaddedCounter[count];
+                for (int i = 0; i < count; i++) {
+                    counters[i] = new PaddedCounter();
+                }
+                return (index, value) -> counters[index].increment();
+            });
+            run("  packed max accumulators", threads, count -> {
+                AtomicLongArray maxima = new AtomicLongArray(count);
+                return (index, value) -> maxima.accumulateAndGet(index, value, Math::max);
+            });
+            run("  padded max accumulators", threads, count -> {
+                PaddedAccumulator[] maxima = new PaddedAccumulator[count];
+                for (int i = 0; i < count; i++) {
+                    maxima[i] = new PaddedAccumulator(Math::max, Long.MIN_VALUE);
+                }
+                return (index, value) -> maxima[index].accumulate(value);
+            });
+        }
+    }
+
+    private static void run(String name, int numberOfThreads, IntFunction<Updater> layout)
+            throws InterruptedException {
+        Updater updater = layout.apply(numberOfThreads);
+        Thread[] threads = new Thread[numberOfThreads];
+        long[] nanos = new long[numberOfThreads];
+        for (int i = 0; i < numberOfThreads; i++) {
+            final int index = i;
+            threads[i] = new Thread(() -> {
+                long start = System.nanoTime();
+                for (int operation = 0; operation < OPERATIONS_PER_THREAD; operation++) {
+                    updater.update(index, operation);
+                }
+                nanos[index] = System.nanoTime() - start;
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        double operationsPerSecond = 0;
+        for (long threadNanos : nanos) {
+            operationsPerSecond += OPERATIONS_PER_THREAD * 1e9 / threadNanos;
+        }
+        System.out.printf("%-36s %,.0f%n", name + ":", operationsPerSecond / numberOfThreads);
+    }
+}
@@ -1,6 +1,8 @@
 /* Said Zitouni (C)2025 */
 package com.saidworks.examples;
 
+import com.saidworks.lock.AdaptiveSpinLock;
+import com.saidworks.lock.ReaderBiasedReadWriteLock;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -115,8 +117,8 @@ public class LocksExample {
     private static void demonstrateReadWriteLock() {
         System.out.println("\n--- ReadWriteLock Example ---");
 
-        // Create a ReadWriteLock
-        ReadWriteLock rwLock = new ReentrantReadWriteLock();
+        // Create a ReadWriteLock; the reader-biased one lets readers skip the shared reader count
+        ReadWriteLock rwLock = new ReaderBiasedReadWriteLock();
         Lock readLock = rwLock.readLock();
         Lock writeLock = rwLock.writeLock();
 
@@ -373,6 +375,55 @@ public class LocksExample {
         }
     }
 
+    /**
+     * Demonstrates AdaptiveSpinLock, a drop-in Lock that spins briefly before parking when the
+     * critical section is short.
+     */
+    private static void demonstrateAdaptiveSpinLock() {
+        System.out.println("\n--- AdaptiveSpinLock Example ---");
+
+        // Create an AdaptiveSpinLock; it is used through the Lock interface like ReentrantLock
+        AdaptiveSpinLock adaptiveLock = new AdaptiveSpinLock();
+        Lock lock = adaptiveLock;
+
+        // Shared counter with a very short critical section
+        long[] counter = {0};
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    lock.lock();
+                    try {
+                        counter[0]++;
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            });
+        }
+
+        // Start the threads
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        // Wait for all threads to complete
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        System.out.println("Final counter value: " + counter[0]);
+        System.out.println("Average hold time: " + adaptiveLock.getAverageHoldNanos() + " ns, spin limit: "
+                + adaptiveLock.getSpinNanos() + " ns");
+        System.out.println("Contended acquisitions: " + adaptiveLock.getSpinAcquisitions() + " while spinning, "
+                + adaptiveLock.getParkedAcquisitions() + " after parking");
+    }
+
     /**
      * Runs all locks examples.
      */
@@ -383,6 +434,7 @@ public class LocksExample {
         demonstrateReadWriteLock();
         demonstrateCondition();
         demonstrateStampedLock();
+        demonstrateAdaptiveSpinLock();
 
         System.out.println("Locks and Conditions Example completed");
     }
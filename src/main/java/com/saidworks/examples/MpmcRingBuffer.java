@@ -0,0 +1,205 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.examples;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * A bounded multi-producer/multi-consumer queue without locks, built as a ring of slots that each carry a sequence
+ * number (the design popularised by Dmitry Vyukov and the LMAX Disruptor).
+ *
+ * A slot's sequence says whose turn it is: it equals the position a producer may write next, or that position plus
+ * one once the slot holds an element a consumer may take. Producers and consumers claim positions with one CAS on
+ * their own padded index and then only touch their slot, so they never block each other and a message costs no
+ * monitor hand-off or context switch. {@link #drainTo(Consumer, int)} claims a whole run of ready slots with a single
+ * CAS.
+ *
+ * {@link #offer} and {@link #poll} never wait. {@link #put} and {@link #take} wait for room or elements using the
+ * configured {@link WaitStrategy}; since nobody is ever signalled, waiting threads poll and the strategy decides how
+ * they spend the time in between.
+ */
+public class MpmcRingBuffer<E> {
+
+    /** How {@link #put} and {@link #take} wait for the ring to change. */
+    public enum WaitStrategy {
+        /** Spins on the CPU: lowest latency, but needs a core per waiting thread. */
+        BUSY_SPIN {
+            @Override
+            void idle(int attempt) {
+                Thread.onSpinWait();
+            }
+        },
+        /** Spins briefly, then yields the CPU to other threads. */
+        YIELD {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPIN_ATTEMPTS) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        },
+        /** Spins, yields, then parks for a short while: cheapest on CPU, highest latency. */
+        PARK {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPIN_ATTEMPTS) {
+                    Thread.onSpinWait();
+                } else if (attempt < SPIN_ATTEMPTS + YIELD_ATTEMPTS) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+            }
+        };
+
+        private static final int SPIN_ATTEMPTS = 100;
+        private static final int YIELD_ATTEMPTS = 100;
+        private static final long PARK_NANOS = 50_000;
+
+        abstract void idle(int attempt);
+    }
+
+    private final int mask;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final PaddedCounter producerIndex = new PaddedCounter();
+    private final PaddedCounter consumerIndex = new PaddedCounter();
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public MpmcRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 2 and 2^30: " + capacity);
+        }
+        int slots = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = slots - 1;
+        this.elements = new Object[slots];
+        this.sequences = new AtomicLongArray(slots);
+        for (int slot = 0; slot < slots; slot++) {
+            sequences.set(slot, slot);
+        }
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    /** Number of elements in the ring; only a snapshot while other threads are using it. */
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, elements.length));
+    }
+
+    /** Adds the element if there is room, without waiting. */
+    public boolean offer(E element) {
+        Objects.requireNonNull(element);
+        long position = producerIndex.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long difference = sequences.getAcquire(slot) - position;
+            if (difference == 0) {
+                if (producerIndex.compareAndSet(position, position + 1)) {
+                    elements[slot] = element;
+                    sequences.setRelease(slot, position + 1);
+                    return true;
+                }
+                position = producerIndex.get();
+            } else if (difference < 0) {
+                return false; // the slot still holds the element from one lap ago
+            } else {
+                position = producerIndex.get();
+            }
+        }
+    }
+
+    /** Removes the oldest element, or returns {@code null} without waiting if there is none. */
+    public E poll() {
+        long position = consumerIndex.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long difference = sequences.getAcquire(slot) - (position + 1);
+            if (difference == 0) {
+                if (consumerIndex.compareAndSet(position, position + 1)) {
+                    return takeFrom(slot, position);
+                }
+                position = consumerIndex.get();
+            } else if (difference < 0) {
+                return null; // nothing published in this slot yet
+            } else {
+                position = consumerIndex.get();
+            }
+        }
+    }
+
+    /** Adds the element, waiting for room. */
+    public void put(E element) throws InterruptedException {
+        int attempt = 0;
+        while (!offer(element)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(attempt++);
+        }
+    }
+
+    /** Removes the oldest element, waiting for one to arrive. */
+    public E take() throws InterruptedException {
+        int attempt = 0;
+        E element;
+        while ((element = poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(attempt++);
+        }
+        return element;
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements that are ready, claiming them with a single CAS, and hands them to
+     * {@code sink} in order.
+     *
+     * @return number of elements removed
+     */
+    public int drainTo(Consumer<? super E> sink, int maxElements) {
+        while (true) {
+            long position = consumerIndex.get();
+            int ready = 0;
+            while (ready < maxElements
+                    && sequences.getAcquire((int) (position + ready) & mask) == position + ready + 1) {
+                ready++;
+            }
+            if (ready == 0) {
+                return 0;
+            }
+            if (consumerIndex.compareAndSet(position, position + ready)) {
+                for (int i = 0; i < ready; i++) {
+                    sink.accept(takeFrom((int) (position + i) & mask, position + i));
+                }
+                return ready;
+            }
+        }
+    }
+
+    /** Same as {@link #drainTo(Consumer, int)}, adding the elements to a collection. */
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        return drainTo(collection::add, maxElements);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E takeFrom(int slot, long position) {
+        E element = (E) elements[slot];
+        elements[slot] = null;
+        // hand the slot to the producer one lap ahead
+        sequences.setRelease(slot, position + elements.length);
+        return element;
+    }
+}
@@ -0,0 +1,41 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.examples;
+
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Like a single-cell {@link java.util.concurrent.atomic.LongAccumulator}, padded to sit alone on its cache lines, for
+ * per-thread running maxima, minima or sums that would otherwise be packed next to each other.
+ */
+public final class PaddedAccumulator extends PaddedLongCell {
+    private final LongBinaryOperator function;
+    private final long identity;
+
+    public PaddedAccumulator(LongBinaryOperator function, long identity) {
+        this.function = function;
+        this.identity = identity;
+        this.value = identity;
+    }
+
+    public void accumulate(long x) {
+        long current;
+        long next;
+        do {
+            current = value;
+            next = function.applyAsLong(current, x);
+        } while (next != current && !VALUE.compareAndSet(this, current, next));
+    }
+
+    public long get() {
+        return value;
+    }
+
+    public void reset() {
+        value = identity;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+}
@@ -0,0 +1,51 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.examples;
+
+/**
+ * An atomic counter padded to sit alone on its cache lines.
+ *
+ * An {@code AtomicLong} is only 16 to 24 bytes, so several of them allocated together share a 64-byte cache line and
+ * every increment on one invalidates the line for the threads using the others (false sharing). Use this class for
+ * counters that different threads update at high rates, such as one counter per worker.
+ */
+public final class PaddedCounter extends PaddedLongCell {
+
+    public PaddedCounter() {}
+
+    public PaddedCounter(long initialValue) {
+        value = initialValue;
+    }
+
+    public void increment() {
+        VALUE.getAndAdd(this, 1L);
+    }
+
+    public long add(long delta) {
+        return (long) VALUE.getAndAdd(this, delta) + delta;
+    }
+
+    public long get() {
+        return value;
+    }
+
+    public void set(long newValue) {
+        value = newValue;
+    }
+
+    /**
+     * Sets the value with a release store, like {@link java.util.concurrent.atomic.AtomicLong#lazySet}: cheaper than
+     * {@link #set}, and a thread that reads the new value also sees every write made before it.
+     */
+    public void lazySet(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    public boolean compareAndSet(long expected, long newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+}
@@ -0,0 +1,36 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.examples;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A volatile long with 128 bytes of unused fields on each side, so no other hot field can end up on its cache line
+ * (or on the neighbouring line that some CPUs fetch along with it).
+ *
+ * The padding is split over a class hierarchy because the JVM lays out superclass fields before subclass fields but
+ * is free to reorder fields within one class. {@code @jdk.internal.vm.annotation.Contended} would give the same
+ * layout, but it needs {@code --add-exports java.base/jdk.internal.vm.annotation=ALL-UNNAMED} to compile and
+ * {@code -XX:-RestrictContended} to take effect outside the JDK; plain fields need neither.
+ */
+abstract class PaddedLongCell extends PaddedLongCellValue {
+    long p17, p18, p19, p20, p21, p22, p23, p24, p25, p26, p27, p28, p29, p30, p31, p32;
+}
+
+abstract class PaddedLongCellValue extends PaddedLongCellLeftPadding {
+    static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(PaddedLongCellValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    volatile long value;
+}
+
+abstract class PaddedLongCellLeftPadding {
+    long p01, p02, p03, p04, p05, p06, p07, p08, p09, p10, p11, p12, p13, p14, p15, p16;
+}
@@ -0,0 +1,150 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.examples;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Moves messages stamped with their send time from producers to consumers through an {@link ArrayBlockingQueue} and
+ * through {@link MpmcRingBuffer} with each {@link MpmcRingBuffer.WaitStrategy}, taking one message at a time and in
+ * batches with {@code drainTo}. Prints messages per second and the latency percentiles seen by the consumers, and
+ * checks that every message arrived.
+ *
+ * Busy spinning needs a core for every thread, so it is skipped when there are not enough processors.
+ */
+public class RingBufferBenchmark {
+    private static final int MESSAGES = 4_000_000;
+    private static final int CAPACITY = 1024;
+    private static final int BATCH = 64;
+
+    /** One producer-consumer channel under test. */
+    private interface Channel {
+        void put(long sentNanos) throws InterruptedException;
+
+        /** Receives at least one message, recording each one's latency from {@code offset} on; returns how many. */
+        int receive(long[] recorded, int offset) throws InterruptedException;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int processors = Runtime.getRuntime().availableProcessors();
+        System.out.println("Available processors: " + processors);
+        int[][] shapes = {{1, 1}, {2, 2}, {4, 4}};
+        for (int[] shape : shapes) {
+            int producers = shape[0];
+            int consumers = shape[1];
+            System.out.println("\n" + producers + " producers, " + consumers + " consumers:");
+            run("ArrayBlockingQueue", producers, consumers, arrayBlockingQueue());
+            for (MpmcRingBuffer.WaitStrategy strategy : MpmcRingBuffer.WaitStrategy.values()) {
+                if (strategy == MpmcRingBuffer.WaitStrategy.BUSY_SPIN && producers + consumers > processors) {
+                    System.out.printf("%-32s skipped, needs %d cores%n", "MpmcRingBuffer " + strategy + ":",
+                            producers + consumers);
+                    continue;
+                }
+                run("MpmcRingBuffer " + strategy, producers, consumers, ringBuffer(strategy, false));
+                run("MpmcRingBuffer " + strategy + " drainTo", producers, consumers, ringBuffer(strategy, true));
+            }
+        }
+    }
+
+    private static Channel arrayBlockingQueue() {
+        BlockingQueue<Long> queue = new ArrayBlockingQueue<>(CAPACITY);
+        return new Channel() {
+            @Override
+            public void put(long sentNanos) throws InterruptedException {
+                queue.put(sentNanos);
+            }
+
+            @Override
+            public int receive(long[] recorded, int offset) throws InterruptedException {
+                long sentNanos = queue.take();
+                recorded[offset] = System.nanoTime() - sentNanos;
+                return 1;
+            }
+        };
+    }
+
+    private static Channel ringBuffer(MpmcRingBuffer.WaitStrategy strategy, boolean batched) {
+        MpmcRingBuffer<Long> ring = new MpmcRingBuffer<>(CAPACITY, strategy);
+        return new Channel() {
+            @Override
+            public void put(long sentNanos) throws InterruptedException {
+                ring.put(sentNanos);
+            }
+
+            @Override
+            public int receive(long[] recorded, int offset) throws InterruptedException {
+                if (!batched) {
+                    long sentNanos = ring.take();
+                    recorded[offset] = System.nanoTime() - sentNanos;
+                    return 1;
+                }
+                int[] received = {0};
+                int attempt = 0;
+                while (true) {
+                    int max = Math.min(BATCH, recorded.length - offset);
+                    ring.drainTo(sentNanos -> recorded[offset + received[0]++] = System.nanoTime() - sentNanos, max);
+                    if (received[0] > 0) {
+                        return received[0];
+                    }
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    strategy.idle(attempt++);
+                }
+            }
+        };
+    }
+
+    private static void run(String name, int numberOfProducers, int numberOfConsumers, Channel channel)
+            throws InterruptedException {
+        int perProducer = MESSAGES / numberOfProducers;
+        int perConsumer = MESSAGES / numberOfConsumers;
+        long[][] latencies = new long[numberOfConsumers][perConsumer];
+        Thread[] threads = new Thread[numberOfProducers + numberOfConsumers];
+        for (int p = 0; p < numberOfProducers; p++) {
+            threads[p] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        channel.put(System.nanoTime());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (int c = 0; c < numberOfConsumers; c++) {
+            final long[] recorded = latencies[c];
+            threads[numberOfProducers + c] = new Thread(() -> {
+                try {
+                    int received = 0;
+                    while (received < recorded.length) {
+                        received += channel.receive(recorded, received);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        long[] sorted = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        if (sorted.length != MESSAGES || sorted[0] < 0) {
+            throw new IllegalStateException(name + " lost messages or saw them before they were sent");
+        }
+        System.out.printf(
+                "%-32s %,12.0f messages/s, latency p50 %,9d ns, p99 %,11d ns%n",
+                name + ":",
+                MESSAGES * 1e9 / elapsedNanos,
+                sorted[sorted.length / 2],
+                sorted[(int) (sorted.length * 0.99)]);
+    }
+}
@@ -0,0 +1,172 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.examples;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A bounded queue for exactly one producer thread and one consumer thread, such as two stages of a pipeline.
+ *
+ * With a single thread on each side no compare-and-set is needed: the producer owns the tail index and the consumer
+ * owns the head index, and each publishes its progress with a release store ({@link PaddedCounter#lazySet}) instead of
+ * a full fence. Each side also keeps a cached copy of the other side's index and only reads the real one when the
+ * cache says the queue looks full (or empty), so most operations touch no cache line the other thread writes.
+ * {@link #offer(Object[], int, int)} and {@link #drainTo(Consumer, int)} move a whole batch with a single publication.
+ *
+ * Using it from more than one producer or more than one consumer at a time corrupts it; use {@link MpmcRingBuffer}
+ * for that.
+ */
+public class SpscQueue<E> {
+    private final int mask;
+    private final Object[] elements;
+    private final MpmcRingBuffer.WaitStrategy waitStrategy;
+    private final PaddedCounter tail = new PaddedCounter();
+    private final PaddedCounter head = new PaddedCounter();
+    // the producer's last view of head and the consumer's last view of tail, each only touched by its own side
+    private final PaddedCounter producerCachedHead = new PaddedCounter();
+    private final PaddedCounter consumerCachedTail = new PaddedCounter();
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     * @param waitStrategy how {@link #put} and {@link #take} wait
+     */
+    public SpscQueue(int capacity, MpmcRingBuffer.WaitStrategy waitStrategy) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 2 and 2^30: " + capacity);
+        }
+        int slots = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = slots - 1;
+        this.elements = new Object[slots];
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    /** Number of elements in the queue; only a snapshot while the other side is running. */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** Producer side: adds the element if there is room, without waiting. */
+    public boolean offer(E element) {
+        Objects.requireNonNull(element);
+        long currentTail = tail.get();
+        if (freeSlots(currentTail, 1) == 0) {
+            return false;
+        }
+        elements[(int) currentTail & mask] = element;
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Producer side: adds as many of {@code source[offset..offset+length)} as fit, publishing them all at once.
+     *
+     * @return number of elements added
+     */
+    public int offer(E[] source, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, source.length);
+        long currentTail = tail.get();
+        int count = (int) Math.min(length, freeSlots(currentTail, length));
+        for (int i = 0; i < count; i++) {
+            elements[(int) (currentTail + i) & mask] = Objects.requireNonNull(source[offset + i]);
+        }
+        if (count > 0) {
+            tail.lazySet(currentTail + count);
+        }
+        return count;
+    }
+
+    /** Producer side: adds the element, waiting for room. */
+    public void put(E element) throws InterruptedException {
+        int attempt = 0;
+        while (!offer(element)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(attempt++);
+        }
+    }
+
+    /** Consumer side: removes the oldest element, or returns {@code null} without waiting if there is none. */
+    public E poll() {
+        long currentHead = head.get();
+        if (availableElements(currentHead, 1) == 0) {
+            return null;
+        }
+        E element = takeFrom(currentHead);
+        head.lazySet(currentHead + 1);
+        return element;
+    }
+
+    /** Consumer side: removes the oldest element, waiting for one to arrive. */
+    public E take() throws InterruptedException {
+        int attempt = 0;
+        E element;
+        while ((element = poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(attempt++);
+        }
+        return element;
+    }
+
+    /**
+     * Consumer side: removes up to {@code maxElements} elements, hands them to {@code sink} in order and then frees
+     * their slots all at once.
+     *
+     * @return number of elements removed
+     */
+    public int drainTo(Consumer<? super E> sink, int maxElements) {
+        long currentHead = head.get();
+        int count = (int) Math.min(maxElements, availableElements(currentHead, maxElements));
+        for (int i = 0; i < count; i++) {
+            sink.accept(takeFrom(currentHead + i));
+        }
+        if (count > 0) {
+            head.lazySet(currentHead + count);
+        }
+        return count;
+    }
+
+    /** Same as {@link #drainTo(Consumer, int)}, adding the elements to a collection. */
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        return drainTo(collection::add, maxElements);
+    }
+
+    /** Free slots as far as the producer can tell, reading the consumer's index only if the cache shows too few. */
+    private long freeSlots(long currentTail, int wanted) {
+        long free = elements.length - (currentTail - producerCachedHead.get());
+        if (free < wanted) {
+            producerCachedHead.lazySet(head.get());
+            free = elements.length - (currentTail - producerCachedHead.get());
+        }
+        return free;
+    }
+
+    /** Elements ready as far as the consumer can tell, reading the producer's index only if the cache shows too few. */
+    private long availableElements(long currentHead, int wanted) {
+        long available = consumerCachedTail.get() - currentHead;
+        if (available < wanted) {
+            consumerCachedTail.lazySet(tail.get());
+            available = consumerCachedTail.get() - currentHead;
+        }
+        return available;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E takeFrom(long position) {
+        int slot = (int) position & mask;
+        E element = (E) elements[slot];
+        elements[slot] = null;
+        return element;
+    }
+}
@@ -0,0 +1,139 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.examples;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * One producer hands {@link #MESSAGES} messages to one consumer through an {@link ArrayBlockingQueue}, an
+ * {@link MpmcRingBuffer}, and an {@link SpscQueue} one message at a time and in batches of {@link #BATCH}. Prints the
+ * cost per message and checks that every message arrived in order.
+ */
+public class SpscQueueBenchmark {
+    private static final int MESSAGES = 20_000_000;
+    private static final int CAPACITY = 1024;
+    private static final int BATCH = 64;
+    private static final Integer[] VALUES = new Integer[CAPACITY];
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = i;
+        }
+    }
+
+    /** Both ends of a channel; each returns how many messages it moved, waiting until it can move at least one. */
+    private interface Channel {
+        int send(int from) throws InterruptedException;
+
+        int receive(int from) throws InterruptedException;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        for (int round = 1; round <= 2; round++) {
+            System.out.println("\nRound " + round + ", nanoseconds per message:");
+            run("ArrayBlockingQueue", arrayBlockingQueue());
+            run("MpmcRingBuffer", mpmcRingBuffer());
+            run("SpscQueue", spscQueue(false));
+            run("SpscQueue batched", spscQueue(true));
+        }
+    }
+
+    private static Channel arrayBlockingQueue() {
+        ArrayBlockingQueue<Integer> queue = new ArrayBlockingQueue<>(CAPACITY);
+        return new Channel() {
+            @Override
+            public int send(int from) throws InterruptedException {
+                queue.put(VALUES[from & (CAPACITY - 1)]);
+                return 1;
+            }
+
+            @Override
+            public int receive(int from) throws InterruptedException {
+                check(queue.take(), from);
+                return 1;
+            }
+        };
+    }
+
+    private static Channel mpmcRingBuffer() {
+        MpmcRingBuffer<Integer> ring = new MpmcRingBuffer<>(CAPACITY, MpmcRingBuffer.WaitStrategy.YIELD);
+        return new Channel() {
+            @Override
+            public int send(int from) throws InterruptedException {
+                ring.put(VALUES[from & (CAPACITY - 1)]);
+                return 1;
+            }
+
+            @Override
+            public int receive(int from) throws InterruptedException {
+                check(ring.take(), from);
+                return 1;
+            }
+        };
+    }
+
+    private static Channel spscQueue(boolean batched) {
+        MpmcRingBuffer.WaitStrategy strategy = MpmcRingBuffer.WaitStrategy.YIELD;
+        SpscQueue<Integer> queue = new SpscQueue<>(CAPACITY, strategy);
+        Integer[] batch = new Integer[BATCH];
+        return new Channel() {
+            @Override
+            public int send(int from) throws InterruptedException {
+                if (!batched) {
+                    queue.put(VALUES[from & (CAPACITY - 1)]);
+                    return 1;
+                }
+                int length = Math.min(BATCH, MESSAGES - from);
+                for (int i = 0; i < length; i++) {
+                    batch[i] = VALUES[(from + i) & (CAPACITY - 1)];
+                }
+                int attempt = 0;
+                int sent;
+                while ((sent = queue.offer(batch, 0, length)) == 0) {
+                    strategy.idle(attempt++);
+                }
+                return sent;
+            }
+
+            @Override
+            public int receive(int from) throws InterruptedException {
+                if (!batched) {
+                    check(queue.take(), from);
+                    return 1;
+                }
+                int[] next = {from};
+                int attempt = 0;
+                int received;
+                while ((received = queue.drainTo(value -> check(value, next[0]++), BATCH)) == 0) {
+                    strategy.idle(attempt++);
+                }
+                return received;
+            }
+        };
+    }
+
+    private static void check(Integer value, int index) {
+        if (value != (index & (CAPACITY - 1))) {
+            throw new IllegalStateException("Message " + index + " arrived out of order");
+        }
+    }
+
+    private static void run(String name, Channel channel) throws InterruptedException {
+        Thread producer = new Thread(() -> {
+            try {
+                for (int sent = 0; sent < MESSAGES; ) {
+                    sent += channel.send(sent);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        long start = System.nanoTime();
+        producer.start();
+        for (int received = 0; received < MESSAGES; ) {
+            received += channel.receive(received);
+        }
+        producer.join();
+        long elapsedNanos = System.nanoTime() - start;
+        System.out.printf("%-20s %6.1f ns%n", name + ":", (double) elapsedNanos / MESSAGES);
+    }
+}
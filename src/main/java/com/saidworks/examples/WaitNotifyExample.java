@@ -1,6 +1,8 @@
 /* Said Zitouni (C)2025 */
 package com.saidworks.examples;
 
+import java.util.Arrays;
+
 /**
  * This class demonstrates thread communication using wait() and notify() methods.
  *
@@ -13,6 +15,7 @@ package com.saidworks.examples;
  * 2. Object.notify() - wakes up a single thread that is waiting on this object
  * 3. Object.notifyAll() - wakes up all threads that are waiting on this object
  * 4. The importance of using these methods inside synchronized blocks
+ * 5. The cost of a monitor hand-off per message, compared with a lock-free ring buffer
  */
 public class WaitNotifyExample {
 
@@ -20,9 +23,19 @@ public class WaitNotifyExample {
      * A simple message class that will be shared between threads.
      */
     static class Message {
+        private final boolean verbose;
         private String content;
         private boolean empty = true;
 
+        Message() {
+            this(true);
+        }
+
+        // Pass false to skip printing every message, e.g. when timing the hand-off
+        Message(boolean verbose) {
+            this.verbose = verbose;
+        }
+
         // Producer calls this method
         public synchronized void put(String message) {
             // Wait until the message has been consumed
@@ -44,7 +57,9 @@ public class WaitNotifyExample {
             // Notify consumer that a message is available
             notify();
 
-            System.out.println("Producer: Message '" + message + "' sent");
+            if (verbose) {
+                System.out.println("Producer: Message '" + message + "' sent");
+            }
         }
 
         // Consumer calls this method
@@ -68,7 +83,9 @@ public class WaitNotifyExample {
             // Notify producer that the message has been consumed
             notify();
 
-            System.out.println("Consumer: Message '" + message + "' received");
+            if (verbose) {
+                System.out.println("Consumer: Message '" + message + "' received");
+            }
             return message;
         }
     }
@@ -130,9 +147,99 @@ public class WaitNotifyExample {
             System.out.println("Main thread was interrupted");
         }
 
+        demonstrateRingBuffer();
+
         System.out.println("Wait/Notify Example completed");
     }
 
+    /**
+     * The same producer-consumer hand-off at full speed. The one-slot {@link Message} needs two monitor hand-offs and
+     * usually a context switch per message; {@link MpmcRingBuffer} lets producers run ahead of consumers without any
+     * lock. Each message carries the time it was sent so the consumers can measure latency.
+     */
+    public static void demonstrateRingBuffer() {
+        System.out.println("\n--- Producer-Consumer at Full Speed ---");
+
+        final int NUM_MESSAGES = 200_000;
+
+        final Message message = new Message(false);
+        long startTime = System.nanoTime();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < NUM_MESSAGES; i++) {
+                message.put("message " + i);
+            }
+        });
+        producer.start();
+        for (int i = 0; i < NUM_MESSAGES; i++) {
+            message.take();
+        }
+        joinQuietly(producer);
+        long messageNanos = System.nanoTime() - startTime;
+        System.out.printf("wait/notify Message: %,.0f messages/s%n", NUM_MESSAGES * 1e9 / messageNanos);
+
+        final int NUM_PRODUCERS = 2;
+        final int NUM_CONSUMERS = 2;
+        final int RING_MESSAGES = 2_000_000;
+        MpmcRingBuffer<Long> ringBuffer = new MpmcRingBuffer<>(1024, MpmcRingBuffer.WaitStrategy.YIELD);
+        long[][] latencies = new long[NUM_CONSUMERS][];
+        Thread[] threads = new Thread[NUM_PRODUCERS + NUM_CONSUMERS];
+        for (int p = 0; p < NUM_PRODUCERS; p++) {
+            threads[p] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < RING_MESSAGES / NUM_PRODUCERS; i++) {
+                        ringBuffer.put(System.nanoTime());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (int c = 0; c < NUM_CONSUMERS; c++) {
+            final int consumer = c;
+            threads[NUM_PRODUCERS + c] = new Thread(() -> {
+                long[] received = new long[RING_MESSAGES / NUM_CONSUMERS];
+                try {
+                    for (int i = 0; i < received.length; i++) {
+                        long sentNanos = ringBuffer.take();
+                        received[i] = System.nanoTime() - sentNanos;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                latencies[consumer] = received;
+            });
+        }
+
+        startTime = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            joinQuietly(thread);
+        }
+        long ringNanos = System.nanoTime() - startTime;
+
+        long[] allLatencies = Arrays.stream(latencies)
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+        System.out.printf(
+                "MpmcRingBuffer, %d producers, %d consumers: %,.0f messages/s, latency p50 %,d ns, p99 %,d ns%n",
+                NUM_PRODUCERS,
+                NUM_CONSUMERS,
+                RING_MESSAGES * 1e9 / ringNanos,
+                allLatencies[allLatencies.length / 2],
+                allLatencies[(int) (allLatencies.length * 0.99)]);
+    }
+
+    private static void joinQuietly(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Additional example showing notifyAll() with multiple waiting threads.
      * This is not called by default but demonstrates an important concept.
@@ -0,0 +1,269 @@
+package com.saidworks.lock;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.AbstractQueuedSynchronizer;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Reentrant lock that spins for a while before parking, for critical sections short enough that parking and
+ * unparking a thread costs more than waiting for the holder to finish.
+ *
+ * <p>How long to spin is tuned from the lock's own history: the holder samples how long it keeps the lock, and a
+ * waiting thread spins with {@link Thread#onSpinWait()} for a few times that average (at least {@link
+ * #MIN_SPIN_NANOS}, at most {@link #MAX_SPIN_NANOS}). Once the average hold time exceeds {@link #MAX_SPIN_NANOS} the
+ * lock stops spinning altogether, and it never spins on a single processor, where the holder cannot make progress
+ * while we spin. Threads that give up spinning queue and park exactly like in a non-fair {@link
+ * java.util.concurrent.locks.ReentrantLock}, which also provides the conditions.
+ */
+public class AdaptiveSpinLock implements Lock {
+    static final long MIN_SPIN_NANOS = 1_000;
+    static final long MAX_SPIN_NANOS = 20_000;
+    private static final boolean MULTIPROCESSOR = Runtime.getRuntime().availableProcessors() > 1;
+    // hold times are sampled once every SAMPLE_INTERVAL acquisitions to keep System.nanoTime off the fast path
+    private static final int SAMPLE_INTERVAL = 16;
+
+    private final Sync sync = new Sync();
+    private final LongAdder spinAcquisitions = new LongAdder();
+    private final LongAdder parkedAcquisitions = new LongAdder();
+    private volatile long averageHoldNanos;
+    // only touched by the thread holding the lock
+    private int acquisitionsUntilSample = SAMPLE_INTERVAL;
+    private long sampleStartNanos;
+
+    @Override
+    public void lock() {
+        if (!sync.tryAcquire(1) && !spin(Long.MAX_VALUE)) {
+            parkedAcquisitions.increment();
+            sync.acquire(1);
+        }
+        onAcquired();
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (!sync.tryAcquire(1) && !spin(Long.MAX_VALUE)) {
+            parkedAcquisitions.increment();
+            sync.acquireInterruptibly(1);
+        }
+        onAcquired();
+    }
+
+    @Override
+    public boolean tryLock() {
+        if (!sync.tryAcquire(1)) {
+            return false;
+        }
+        onAcquired();
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        long deadline = System.nanoTime() + unit.toNanos(time);
+        if (!sync.tryAcquire(1) && !spin(deadline)) {
+            parkedAcquisitions.increment();
+            if (!sync.tryAcquireNanos(1, deadline - System.nanoTime())) {
+                return false;
+            }
+        }
+        onAcquired();
+        return true;
+    }
+
+    @Override
+    public void unlock() {
+        if (sampleStartNanos != 0 && sync.getHoldCount() == 1) {
+            long held = System.nanoTime() - sampleStartNanos;
+            sampleStartNanos = 0;
+            long average = averageHoldNanos;
+            averageHoldNanos = average + ((held - average) >> 3);
+        }
+        sync.release(1);
+    }
+
+    @Override
+    public Condition newCondition() {
+        return new SampledCondition(sync.newCondition());
+    }
+
+    public boolean isLocked() {
+        return sync.isLocked();
+    }
+
+    public boolean isHeldByCurrentThread() {
+        return sync.isHeldExclusively();
+    }
+
+    /** Moving average of the sampled hold times. */
+    public long getAverageHoldNanos() {
+        return averageHoldNanos;
+    }
+
+    /** How long a thread that finds the lock taken currently spins before parking. */
+    public long getSpinNanos() {
+        if (!MULTIPROCESSOR) {
+            return 0;
+        }
+        long average = averageHoldNanos;
+        return average > MAX_SPIN_NANOS ? 0 : Math.min(MAX_SPIN_NANOS, MIN_SPIN_NANOS + 2 * average);
+    }
+
+    /** Number of contended acquisitions that got the lock while spinning. */
+    public long getSpinAcquisitions() {
+        return spinAcquisitions.sum();
+    }
+
+    /** Number of contended acquisitions that had to queue and park. */
+    public long getParkedAcquisitions() {
+        return parkedAcquisitions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + (isLocked() ? "[Locked]" : "[Unlocked]") + "[average hold " + averageHoldNanos
+                + " ns]";
+    }
+
+    /** Spins for the tuned time, or until {@code deadline}, trying to take the lock whenever it looks free. */
+    private boolean spin(long deadline) {
+        long spinNanos = getSpinNanos();
+        if (spinNanos == 0) {
+            return false;
+        }
+        long start = System.nanoTime();
+        long spinUntil = deadline - start < spinNanos ? deadline : start + spinNanos;
+        do {
+            Thread.onSpinWait();
+            // barges past queued threads like the first attempt in lock(); the lock is not fair anyway
+            if (!sync.isLocked() && sync.tryAcquire(1)) {
+                spinAcquisitions.increment();
+                return true;
+            }
+        } while (System.nanoTime() - spinUntil < 0);
+        return false;
+    }
+
+    private void onAcquired() {
+        if (--acquisitionsUntilSample <= 0 && sync.getHoldCount() == 1) {
+            acquisitionsUntilSample = SAMPLE_INTERVAL;
+            sampleStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Condition of the synchronizer that drops the current hold time sample before waiting: {@code await} releases
+     * the lock without going through {@link #unlock()}, and the wait is not time spent holding the lock.
+     */
+    private final class SampledCondition implements Condition {
+        private final Condition condition;
+
+        SampledCondition(Condition condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        public void await() throws InterruptedException {
+            discardSample();
+            condition.await();
+        }
+
+        @Override
+        public void awaitUninterruptibly() {
+            discardSample();
+            condition.awaitUninterruptibly();
+        }
+
+        @Override
+        public long awaitNanos(long nanosTimeout) throws InterruptedException {
+            discardSample();
+            return condition.awaitNanos(nanosTimeout);
+        }
+
+        @Override
+        public boolean await(long time, TimeUnit unit) throws InterruptedException {
+            discardSample();
+            return condition.await(time, unit);
+        }
+
+        @Override
+        public boolean awaitUntil(Date deadline) throws InterruptedException {
+            discardSample();
+            return condition.awaitUntil(deadline);
+        }
+
+        @Override
+        public void signal() {
+            condition.signal();
+        }
+
+        @Override
+        public void signalAll() {
+            condition.signalAll();
+        }
+
+        private void discardSample() {
+            if (sync.isHeldExclusively()) {
+                sampleStartNanos = 0;
+            }
+        }
+    }
+
+    /** Non-fair reentrant exclusive synchronizer; the state is the hold count. */
+    private static final class Sync extends AbstractQueuedSynchronizer {
+        @Override
+        protected boolean tryAcquire(int acquires) {
+            Thread current = Thread.currentThread();
+            int state = getState();
+            if (state == 0) {
+                if (compareAndSetState(0, acquires)) {
+                    setExclusiveOwnerThread(current);
+                    return true;
+                }
+            } else if (getExclusiveOwnerThread() == current) {
+                setState(state + acquires);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        protected boolean tryRelease(int releases) {
+            if (getExclusiveOwnerThread() != Thread.currentThread()) {
+                throw new IllegalMonitorStateException();
+            }
+            int state = getState() - releases;
+            boolean free = state == 0;
+            if (free) {
+                setExclusiveOwnerThread(null);
+            }
+            setState(state);
+            return free;
+        }
+
+        @Override
+        protected boolean isHeldExclusively() {
+            return getExclusiveOwnerThread() == Thread.currentThread();
+        }
+
+        boolean isLocked() {
+            return getState() != 0;
+        }
+
+        int getHoldCount() {
+            return isHeldExclusively() ? getState() : 0;
+        }
+
+        Condition newCondition() {
+            return new ConditionObject();
+        }
+    }
+}
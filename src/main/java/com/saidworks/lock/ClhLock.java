@@ -0,0 +1,124 @@
+package com.saidworks.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Craig, Landin and Hagersten queue lock: a fair, non-reentrant {@link Lock} where every waiter spins on the node of
+ * the thread queued just before it. Unlike {@link McsLock} the queue is only linked backwards, so enqueueing is a
+ * single swap and releasing is a single write to the holder's own node, with no successor to wait for.
+ *
+ * <p>A waiter spins for {@link McsLock#SPINS} rounds and then publishes itself on its predecessor's node and parks;
+ * the releasing thread unparks whoever it finds there. The same limitations as {@link McsLock} apply to interrupts,
+ * timeouts and conditions.
+ */
+public class ClhLock implements Lock {
+    private final AtomicReference<Node> tail = new AtomicReference<>(new Node(false));
+    // only touched by the thread holding the lock
+    private Node ownerNode;
+
+    @Override
+    public void lock() {
+        Node node = new Node(true);
+        Node predecessor = tail.getAndSet(node);
+        int spins = McsLock.SPINS;
+        boolean interrupted = false;
+        while (predecessor.locked) {
+            if (spins > 0) {
+                spins--;
+                Thread.onSpinWait();
+            } else if (predecessor.waiter == null) {
+                // publish ourselves, then look at the flag again before parking so the release cannot be missed
+                predecessor.waiter = node.owner;
+            } else {
+                LockSupport.park(this);
+                // park returns at once while the flag is set, so keep it clear until we own the lock
+                interrupted |= Thread.interrupted();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        ownerNode = node;
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        lock();
+    }
+
+    @Override
+    public boolean tryLock() {
+        Node current = tail.get();
+        if (current.locked) {
+            return false;
+        }
+        Node node = new Node(true);
+        if (!tail.compareAndSet(current, node)) {
+            return false;
+        }
+        ownerNode = node;
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(time);
+        int spins = McsLock.SPINS;
+        while (!tryLock()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            if (spins > 0) {
+                spins--;
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, Math.min(remaining, TimeUnit.MICROSECONDS.toNanos(50)));
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void unlock() {
+        Node node = ownerNode;
+        if (node == null || node.owner != Thread.currentThread()) {
+            throw new IllegalMonitorStateException();
+        }
+        ownerNode = null;
+        node.locked = false;
+        Thread waiter = node.waiter;
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    @Override
+    public Condition newCondition() {
+        throw new UnsupportedOperationException();
+    }
+
+    public boolean isLocked() {
+        return tail.get().locked;
+    }
+
+    private static final class Node {
+        final Thread owner = Thread.currentThread();
+        volatile boolean locked;
+        volatile Thread waiter;
+
+        Node(boolean locked) {
+            this.locked = locked;
+        }
+    }
+}
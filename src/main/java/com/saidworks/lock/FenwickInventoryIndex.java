@@ -0,0 +1,93 @@
+package com.saidworks.lock;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * {@link PriceInventory} over a fixed price domain {@code [0, highestPrice)} backed by a Fenwick
+ * (binary indexed) tree, so both range counts and updates are O(log n) in the number of prices
+ * instead of O(k) in the number of prices inside the range.
+ *
+ * Readers first try a {@link StampedLock} optimistic read, which writes no shared state, and only
+ * take the read lock if a writer got in the way. Plain {@code int} arrays make the unlocked reads
+ * harmless: a torn result is simply discarded when the stamp fails to validate.
+ */
+public class FenwickInventoryIndex implements PriceInventory {
+    private final int[] countByPrice;
+    private final int[] tree;
+    private final StampedLock lock = new StampedLock();
+
+    public FenwickInventoryIndex(int highestPrice) {
+        this.countByPrice = new int[highestPrice];
+        this.tree = new int[highestPrice + 1];
+    }
+
+    @Override
+    public int getNumberOfItemsInPriceRange(int lowerBound, int upperBound) {
+        int from = Math.max(0, lowerBound);
+        int to = Math.min(countByPrice.length - 1, upperBound);
+        if (from > to) {
+            return 0;
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int sum = prefixSum(to) - prefixSum(from - 1);
+            if (lock.validate(stamp)) {
+                return sum;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return prefixSum(to) - prefixSum(from - 1);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void addItem(int price) {
+        checkPrice(price);
+        long stamp = lock.writeLock();
+        try {
+            countByPrice[price]++;
+            update(price, 1);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void removeItem(int price) {
+        checkPrice(price);
+        long stamp = lock.writeLock();
+        try {
+            if (countByPrice[price] > 0) {
+                countByPrice[price]--;
+                update(price, -1);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Sum of the counts of prices {@code 0..price}. */
+    private int prefixSum(int price) {
+        int sum = 0;
+        for (int i = price + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private void update(int price, int delta) {
+        for (int i = price + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private void checkPrice(int price) {
+        if (price < 0 || price >= countByPrice.length) {
+            throw new IllegalArgumentException("price " + price + " outside [0, " + countByPrice.length + ")");
+        }
+    }
+}
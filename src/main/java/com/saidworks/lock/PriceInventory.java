@@ -0,0 +1,14 @@
+package com.saidworks.lock;
+
+/**
+ * Counts inventory items by price. Implementations are safe for concurrent readers and writers.
+ */
+public interface PriceInventory {
+    /** Returns the number of items whose price is between the two bounds, both inclusive. */
+    int getNumberOfItemsInPriceRange(int lowerBound, int upperBound);
+
+    void addItem(int price);
+
+    /** Removes one item of the given price, if there is one. */
+    void removeItem(int price);
+}
@@ -0,0 +1,113 @@
+package com.saidworks.lock;
+
+import com.saidworks.lock.ReentrantLockExample.InventoryDatabase;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Read throughput of {@link InventoryDatabase} with {@link ReentrantReadWriteLock} and with {@link
+ * ReaderBiasedReadWriteLock}, for 1 to 8 reader threads and one writer that adds and removes an item every
+ * millisecond. Prints reads per second for every reader count followed by a bar chart per lock, scaled to the best
+ * result, so it shows at a glance whether adding readers adds throughput.
+ */
+public class ReadScalingBenchmark {
+    private static final int[] READERS = {1, 2, 4, 8};
+    private static final long RUN_MILLIS = 500;
+    private static final int CHART_WIDTH = 60;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("processors: " + Runtime.getRuntime().availableProcessors());
+        double[] plain = scale("ReentrantReadWriteLock", ReentrantReadWriteLock::new);
+        double[] biased = scale("ReaderBiasedReadWriteLock", ReaderBiasedReadWriteLock::new);
+
+        double best = 0;
+        for (int i = 0; i < READERS.length; i++) {
+            best = Math.max(best, Math.max(plain[i], biased[i]));
+        }
+        chart("ReentrantReadWriteLock", plain, best);
+        chart("ReaderBiasedReadWriteLock", biased, best);
+    }
+
+    private static double[] scale(String name, Supplier<ReadWriteLock> factory) throws InterruptedException {
+        double[] readsPerSecond = new double[READERS.length];
+        for (int i = 0; i < READERS.length; i++) {
+            ReadWriteLock lock = factory.get();
+            readsPerSecond[i] = run(new InventoryDatabase(lock), READERS[i]);
+            String line = String.format("%s, %d readers: %,.0f reads/s", name, READERS[i], readsPerSecond[i]);
+            if (lock instanceof ReaderBiasedReadWriteLock biased) {
+                line += String.format(" (bias revoked %d times)", biased.getRevocationCount());
+            }
+            System.out.println(line);
+        }
+        return readsPerSecond;
+    }
+
+    private static double run(InventoryDatabase inventoryDatabase, int numberOfReaders) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 100000; i++) {
+            inventoryDatabase.addItem(random.nextInt(ReentrantLockExample.HIGHEST_PRICE));
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            ThreadLocalRandom writerRandom = ThreadLocalRandom.current();
+            while (running.get()) {
+                inventoryDatabase.addItem(writerRandom.nextInt(ReentrantLockExample.HIGHEST_PRICE));
+                inventoryDatabase.removeItem(writerRandom.nextInt(ReentrantLockExample.HIGHEST_PRICE));
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long[] reads = new long[numberOfReaders];
+        Thread[] readers = new Thread[numberOfReaders];
+        for (int r = 0; r < numberOfReaders; r++) {
+            int index = r;
+            readers[r] = new Thread(() -> {
+                ThreadLocalRandom readerRandom = ThreadLocalRandom.current();
+                long count = 0;
+                while (running.get()) {
+                    int upperBoundPrice = readerRandom.nextInt(ReentrantLockExample.HIGHEST_PRICE);
+                    int lowerBoundPrice = upperBoundPrice > 0 ? readerRandom.nextInt(upperBoundPrice) : 0;
+                    inventoryDatabase.getNumberOfItemsInPriceRange(lowerBoundPrice, upperBoundPrice);
+                    count++;
+                }
+                reads[index] = count;
+            });
+        }
+
+        long start = System.nanoTime();
+        writer.start();
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        Thread.sleep(RUN_MILLIS);
+        running.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        writer.join();
+        long elapsed = System.nanoTime() - start;
+
+        long total = 0;
+        for (long count : reads) {
+            total += count;
+        }
+        return total * 1e9 / elapsed;
+    }
+
+    private static void chart(String name, double[] readsPerSecond, double best) {
+        System.out.println("\n" + name + " (reads/s)");
+        for (int i = 0; i < READERS.length; i++) {
+            int width = (int) Math.round(readsPerSecond[i] / best * CHART_WIDTH);
+            System.out.println(String.format(
+                    "%2d readers |%-" + CHART_WIDTH + "s| %,.0f", READERS[i], "#".repeat(width), readsPerSecond[i]));
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.saidworks.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reader-biased wrapper around a {@link ReentrantReadWriteLock}, after BRAVO (Dice and Kogan, "BRAVO: Biased Locking
+ * for Reader-Writer Locks"). While the lock is biased towards readers, a reader does not touch the shared reader count
+ * of the underlying lock at all: it increments a reader indicator slot picked from its thread id, with {@link
+ * #PADDING} longs between slots so readers on different slots never share a cache line. Only readers whose ids hash
+ * to the same slot contend with each other.
+ *
+ * <p>A writer first takes the underlying write lock, which stops readers that come in through the slow path, then
+ * revokes the bias and waits until every slot has drained. Revocation is expensive, so the bias stays off for {@link
+ * #INHIBIT_MULTIPLIER} times as long as the revocation took; after that, the next reader that comes through the
+ * underlying read lock turns it back on. Read-mostly workloads therefore run on the slots, and write-heavy workloads
+ * behave like the plain {@link ReentrantReadWriteLock}.
+ *
+ * <p>Both locks are reentrant and a writer may take the read lock, as with the underlying lock. Neither lock supports
+ * conditions, because a writer waking up from a condition would not revoke the bias again.
+ */
+public class ReaderBiasedReadWriteLock implements ReadWriteLock {
+    static final int PADDING = 16;
+    static final long INHIBIT_MULTIPLIER = 9;
+    private static final int SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 256 : 0;
+    // a power of two with room for a few readers per processor
+    private static final int SLOTS =
+            Integer.highestOneBit(Math.max(16, Runtime.getRuntime().availableProcessors() * 4) * 2 - 1);
+
+    private final ReentrantReadWriteLock underlying = new ReentrantReadWriteLock();
+    private final AtomicLongArray readers = new AtomicLongArray((SLOTS + 1) * PADDING);
+    private final ThreadLocal<ReadHolds> readHolds = ThreadLocal.withInitial(ReadHolds::new);
+    private final ReadLock readLock = new ReadLock();
+    private final WriteLock writeLock = new WriteLock();
+    private volatile boolean readBias = true;
+    // written by writers while they hold the underlying write lock
+    private volatile long inhibitUntil;
+    private volatile long revocations;
+
+    @Override
+    public Lock readLock() {
+        return readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return writeLock;
+    }
+
+    public boolean isReadBiased() {
+        return readBias;
+    }
+
+    /** Number of times a writer had to revoke the reader bias. */
+    public long getRevocationCount() {
+        return revocations;
+    }
+
+    /** Takes the read lock on this thread's slot, or returns false if the lock is not biased towards readers. */
+    private boolean tryFastRead(ReadHolds holds) {
+        int slot = slotOf(Thread.currentThread());
+        if (holds.fast > 0) {
+            // already a fast reader, so a writer is waiting for this slot anyway
+            readers.getAndIncrement(slot);
+            holds.fast++;
+            return true;
+        }
+        if (!readBias) {
+            return false;
+        }
+        readers.getAndIncrement(slot);
+        if (readBias) {
+            holds.fast++;
+            return true;
+        }
+        // a writer revoked the bias in the meantime and may be waiting for this slot
+        readers.getAndDecrement(slot);
+        return false;
+    }
+
+    /** Called after taking the underlying read lock, which means no writer is active. */
+    private void onSlowRead(ReadHolds holds) {
+        holds.slow++;
+        if (!readBias && !underlying.isWriteLockedByCurrentThread() && System.nanoTime() - inhibitUntil >= 0) {
+            readBias = true;
+        }
+    }
+
+    /** Revokes the reader bias and waits for the fast readers to leave, up to {@code deadline} if {@code timed}. */
+    private boolean revokeBias(boolean timed, long deadline) {
+        if (!readBias) {
+            return true;
+        }
+        readBias = false;
+        long start = System.nanoTime();
+        int spins = 0;
+        for (int slot = PADDING; slot <= SLOTS * PADDING; slot += PADDING) {
+            while (readers.get(slot) != 0) {
+                if (timed && System.nanoTime() - deadline >= 0) {
+                    readBias = true;
+                    return false;
+                }
+                spins = backOff(spins);
+            }
+        }
+        long now = System.nanoTime();
+        inhibitUntil = now + (now - start) * INHIBIT_MULTIPLIER;
+        revocations++;
+        return true;
+    }
+
+    private static int slotOf(Thread thread) {
+        long mixed = thread.threadId() * 0x9E3779B97F4A7C15L;
+        return ((int) (mixed >>> 40) & (SLOTS - 1)) * PADDING + PADDING;
+    }
+
+    private static int backOff(int spins) {
+        if (spins < SPINS) {
+            Thread.onSpinWait();
+            return spins + 1;
+        }
+        Thread.yield();
+        return spins;
+    }
+
+    /** How many times the current thread holds the read lock through its slot and through the underlying lock. */
+    private static final class ReadHolds {
+        int fast;
+        int slow;
+    }
+
+    private final class ReadLock implements Lock {
+        private final Lock delegate = underlying.readLock();
+
+        @Override
+        public void lock() {
+            ReadHolds holds = readHolds.get();
+            if (!tryFastRead(holds)) {
+                delegate.lock();
+                onSlowRead(holds);
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            ReadHolds holds = readHolds.get();
+            if (!tryFastRead(holds)) {
+                delegate.lockInterruptibly();
+                onSlowRead(holds);
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            ReadHolds holds = readHolds.get();
+            if (tryFastRead(holds)) {
+                return true;
+            }
+            if (!delegate.tryLock()) {
+                return false;
+            }
+            onSlowRead(holds);
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            ReadHolds holds = readHolds.get();
+            if (tryFastRead(holds)) {
+                return true;
+            }
+            if (!delegate.tryLock(time, unit)) {
+                return false;
+            }
+            onSlowRead(holds);
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            ReadHolds holds = readHolds.get();
+            if (holds.fast > 0) {
+                holds.fast--;
+                readers.getAndDecrement(slotOf(Thread.currentThread()));
+            } else if (holds.slow > 0) {
+                holds.slow--;
+                delegate.unlock();
+            } else {
+                throw new IllegalMonitorStateException();
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private final class WriteLock implements Lock {
+        private final ReentrantReadWriteLock.WriteLock delegate = underlying.writeLock();
+
+        @Override
+        public void lock() {
+            delegate.lock();
+            revokeBias(false, 0);
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            delegate.lockInterruptibly();
+            revokeBias(false, 0);
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (!delegate.tryLock()) {
+                return false;
+            }
+            if (!revokeBias(true, System.nanoTime())) {
+                delegate.unlock();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            if (!delegate.tryLock(time, unit)) {
+                return false;
+            }
+            if (!revokeBias(true, deadline)) {
+                delegate.unlock();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            delegate.unlock();
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
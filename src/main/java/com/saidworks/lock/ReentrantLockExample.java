@@ -7,7 +7,9 @@ package com.saidworks.lock;
  */
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -19,20 +21,26 @@ public class ReentrantLockExample {
     public static final int HIGHEST_PRICE = 1000;
 
     public static void main(String[] args) throws InterruptedException {
-        InventoryDatabase inventoryDatabase = new InventoryDatabase();
+        benchmark("TreeMap + ReentrantReadWriteLock", new InventoryDatabase());
+        benchmark("TreeMap + ReaderBiasedReadWriteLock", new InventoryDatabase(new ReaderBiasedReadWriteLock()));
+        benchmark("Sorted arrays + StampedLock", new StampedInventoryDatabase());
+        benchmark("Fenwick tree + StampedLock", new FenwickInventoryIndex(HIGHEST_PRICE));
+    }
 
+    private static void benchmark(String name, PriceInventory inventoryDatabase) throws InterruptedException {
         Random random = new Random();
         for (int i = 0; i < 100000; i++) {
             inventoryDatabase.addItem(random.nextInt(HIGHEST_PRICE));
         }
 
         Thread writer = new Thread(() -> {
-            while (true) {
+            while (!Thread.currentThread().isInterrupted()) {
                 inventoryDatabase.addItem(random.nextInt(HIGHEST_PRICE));
                 inventoryDatabase.removeItem(random.nextInt(HIGHEST_PRICE));
                 try {
                     Thread.sleep(10);
                 } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
                 }
             }
         });
@@ -41,13 +49,16 @@ public class ReentrantLockExample {
         writer.start();
 
         int numberOfReaderThreads = 7;
+        int readsPerThread = 100000;
         List<Thread> readers = new ArrayList<>();
 
         for (int readerIndex = 0; readerIndex < numberOfReaderThreads; readerIndex++) {
             Thread reader = new Thread(() -> {
-                for (int i = 0; i < 100000; i++) {
-                    int upperBoundPrice = random.nextInt(HIGHEST_PRICE);
-                    int lowerBoundPrice = upperBoundPrice > 0 ? random.nextInt(upperBoundPrice) : 0;
+                // a shared Random would make its seed the contended hot spot instead of the lock
+                ThreadLocalRandom readerRandom = ThreadLocalRandom.current();
+                for (int i = 0; i < readsPerThread; i++) {
+                    int upperBoundPrice = readerRandom.nextInt(HIGHEST_PRICE);
+                    int lowerBoundPrice = upperBoundPrice > 0 ? readerRandom.nextInt(upperBoundPrice) : 0;
                     inventoryDatabase.getNumberOfItemsInPriceRange(lowerBoundPrice, upperBoundPrice);
                 }
             });
@@ -66,17 +77,30 @@ public class ReentrantLockExample {
         }
 
         long endReadingTime = System.currentTimeMillis();
+        writer.interrupt();
 
-        System.out.println(String.format("Reading took %d ms", endReadingTime - startReadingTime));
+        long readingTime = Math.max(1, endReadingTime - startReadingTime);
+        System.out.println(String.format(
+                "%s: reading took %d ms, %d reads/s",
+                name, readingTime, (long) numberOfReaderThreads * readsPerThread * 1000 / readingTime));
     }
 
-    public static class InventoryDatabase {
+    public static class InventoryDatabase implements PriceInventory {
         private TreeMap<Integer, Integer> priceToCountMap = new TreeMap<>();
-        private ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-        private Lock readLock = reentrantReadWriteLock.readLock();
-        private Lock writeLock = reentrantReadWriteLock.writeLock();
+        private final Lock readLock;
+        private final Lock writeLock;
         private Lock lock = new ReentrantLock();
 
+        public InventoryDatabase() {
+            this(new ReentrantReadWriteLock());
+        }
+
+        public InventoryDatabase(ReadWriteLock readWriteLock) {
+            this.readLock = readWriteLock.readLock();
+            this.writeLock = readWriteLock.writeLock();
+        }
+
+        @Override
         public int getNumberOfItemsInPriceRange(int lowerBound, int upperBound) {
             //lock.lock();
             readLock.lock();
@@ -85,7 +109,7 @@ public class ReentrantLockExample {
 
                 Integer toKey = priceToCountMap.floorKey(upperBound);
 
-                if (fromKey == null || toKey == null) {
+                if (fromKey == null || toKey == null || fromKey > toKey) {
                     return 0;
                 }
 
@@ -103,6 +127,7 @@ public class ReentrantLockExample {
             }
         }
 
+        @Override
         public void addItem(int price) {
             //lock.lock();
             writeLock.lock();
@@ -120,6 +145,7 @@ public class ReentrantLockExample {
             }
         }
 
+        @Override
         public void removeItem(int price) {
             //lock.lock();
             writeLock.lock();
@@ -0,0 +1,113 @@
+package com.saidworks.lock;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Same sorted price-to-count mapping as {@link ReentrantLockExample.InventoryDatabase}, but stored in
+ * two parallel primitive arrays instead of a {@link java.util.TreeMap} and guarded by a
+ * {@link StampedLock}.
+ *
+ * Range queries run as optimistic reads, which write no shared state, so readers do not contend on
+ * the lock's cache line. A writer shifting the arrays can make a concurrent reader see a torn
+ * state; the reader only ever indexes within the arrays it read, and a failed validation makes it
+ * retry under the read lock. Walking a {@code TreeMap} unlocked would not be safe this way, which is
+ * why the data lives in arrays.
+ */
+public class StampedInventoryDatabase implements PriceInventory {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    private final StampedLock lock = new StampedLock();
+
+    @Override
+    public int getNumberOfItemsInPriceRange(int lowerBound, int upperBound) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int sum = sumRange(prices, counts, size, lowerBound, upperBound);
+            if (lock.validate(stamp)) {
+                return sum;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return sumRange(prices, counts, size, lowerBound, upperBound);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void addItem(int price) {
+        long stamp = lock.writeLock();
+        try {
+            int index = Arrays.binarySearch(prices, 0, size, price);
+            if (index >= 0) {
+                counts[index]++;
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == prices.length) {
+                prices = Arrays.copyOf(prices, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            System.arraycopy(prices, insertAt, prices, insertAt + 1, size - insertAt);
+            System.arraycopy(counts, insertAt, counts, insertAt + 1, size - insertAt);
+            prices[insertAt] = price;
+            counts[insertAt] = 1;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void removeItem(int price) {
+        long stamp = lock.writeLock();
+        try {
+            int index = Arrays.binarySearch(prices, 0, size, price);
+            if (index < 0) {
+                return;
+            }
+            if (counts[index] > 1) {
+                counts[index]--;
+                return;
+            }
+            System.arraycopy(prices, index + 1, prices, index, size - index - 1);
+            System.arraycopy(counts, index + 1, counts, index, size - index - 1);
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sums the counts of the prices within the bounds. May run against a torn state during an
+     * optimistic read, so it only relies on the arrays it was given and stays within their bounds.
+     */
+    private static int sumRange(int[] prices, int[] counts, int size, int lowerBound, int upperBound) {
+        int length = Math.min(size, Math.min(prices.length, counts.length));
+        int from = firstIndexAtLeast(prices, length, lowerBound);
+        int sum = 0;
+        for (int i = from; i < length && prices[i] <= upperBound; i++) {
+            sum += counts[i];
+        }
+        return sum;
+    }
+
+    private static int firstIndexAtLeast(int[] prices, int length, int price) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (prices[middle] < price) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -1,6 +1,7 @@
 /* Said Zitouni (C)2025 */
 package com.saidworks.practice.coordination;
 
+import com.saidworks.coordination.PowerEngine;
 import java.math.BigInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -42,6 +43,7 @@ public class ComplexCalculation {
     }
 
     private static class PowerCalculatingThread extends Thread {
+        private static final PowerEngine powerEngine = new PowerEngine();
         Logger logger = LogManager.getLogger(PowerCalculatingThread.class);
         private BigInteger result = BigInteger.ONE;
         private BigInteger base;
@@ -59,11 +61,7 @@ public class ComplexCalculation {
         }
 
         private BigInteger calculateResult() {
-            BigInteger tmp = BigInteger.ONE;
-            for (BigInteger i = BigInteger.ZERO; i.compareTo(power) != 0; i = i.add(BigInteger.ONE)) {
-                tmp = tmp.multiply(base);
-            }
-            return tmp;
+            return powerEngine.pow(base, power);
         }
 
         public BigInteger getResult() {
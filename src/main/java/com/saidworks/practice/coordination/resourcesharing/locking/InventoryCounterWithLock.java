@@ -0,0 +1,45 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.coordination.resourcesharing.locking;
+
+import com.saidworks.practice.coordination.resourcesharing.InventoryCounter;
+import java.util.concurrent.locks.Lock;
+
+/** Same as {@link InventoryCounterSyncWithLocked}, guarded by any {@link Lock} instead of a monitor. */
+public class InventoryCounterWithLock extends InventoryCounter {
+    private int items = 0;
+    private final Lock lock;
+
+    public InventoryCounterWithLock(Lock lock) {
+        this.lock = lock;
+    }
+
+    @Override
+    public void increment() {
+        lock.lock();
+        try {
+            items++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void decrement() {
+        lock.lock();
+        try {
+            items--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getItems() {
+        lock.lock();
+        try {
+            return items;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
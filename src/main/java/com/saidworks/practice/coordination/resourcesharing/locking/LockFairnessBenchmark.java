@@ -0,0 +1,92 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.coordination.resourcesharing.locking;
+
+import com.saidworks.lock.AdaptiveSpinLock;
+import com.saidworks.lock.ClhLock;
+import com.saidworks.lock.McsLock;
+import com.saidworks.practice.coordination.resourcesharing.InventoryCounter;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs the increment/decrement workload of {@code IncrementingThread} and {@code DecrementingThread} for a fixed time
+ * on every lock variant, and reports throughput next to how evenly the operations were spread over the threads: the
+ * ratio between the least and the most successful thread, and Jain's fairness index (1.0 when every thread got the
+ * same share, 1/n when one thread got everything). The final count is checked against the operations performed.
+ */
+public class LockFairnessBenchmark {
+    private static final Logger logger = LogManager.getLogger(LockFairnessBenchmark.class);
+    private static final long RUN_MILLIS = 500;
+
+    public static void main(String[] args) throws InterruptedException {
+        int processors = Runtime.getRuntime().availableProcessors();
+        logger.info("processors: {}", processors);
+        for (int threads : new int[] {2, 4, Math.max(8, processors)}) {
+            run("InventoryCounterSyncWithLocked", threads, InventoryCounterSyncWithLocked::new);
+            run("ReentrantLock (unfair)", threads, () -> new InventoryCounterWithLock(new ReentrantLock()));
+            run("ReentrantLock (fair)", threads, () -> new InventoryCounterWithLock(new ReentrantLock(true)));
+            run("AdaptiveSpinLock", threads, () -> new InventoryCounterWithLock(new AdaptiveSpinLock()));
+            run("McsLock", threads, () -> new InventoryCounterWithLock(new McsLock()));
+            run("ClhLock", threads, () -> new InventoryCounterWithLock(new ClhLock()));
+        }
+    }
+
+    private static void run(String name, int threads, Supplier<InventoryCounter> factory)
+            throws InterruptedException {
+        InventoryCounter counter = factory.get();
+        AtomicBoolean running = new AtomicBoolean(true);
+        long[] operations = new long[threads];
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            boolean incrementing = i % 2 == 0;
+            workers[i] = new Thread(() -> {
+                long count = 0;
+                while (running.get()) {
+                    if (incrementing) {
+                        counter.increment();
+                    } else {
+                        counter.decrement();
+                    }
+                    count++;
+                }
+                operations[index] = count;
+            });
+        }
+
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        Thread.sleep(RUN_MILLIS);
+        running.set(false);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long total = 0;
+        long expectedCount = 0;
+        double sumOfSquares = 0;
+        for (int i = 0; i < threads; i++) {
+            total += operations[i];
+            expectedCount += i % 2 == 0 ? operations[i] : -operations[i];
+            sumOfSquares += (double) operations[i] * operations[i];
+        }
+        long[] sorted = operations.clone();
+        Arrays.sort(sorted);
+        logger.info(
+                "{}, {} threads: {} ops/s, min/max share {}, fairness index {}, final count {} (expected {})",
+                name,
+                threads,
+                String.format("%.0f", total * 1e9 / elapsed),
+                String.format("%.3f", (double) sorted[0] / Math.max(1, sorted[threads - 1])),
+                String.format("%.3f", (double) total * total / (threads * sumOfSquares)),
+                counter.getItems(),
+                (int) expectedCount);
+    }
+}
@@ -1,8 +1,12 @@
 /* Said Zitouni (C)2025 */
 package com.saidworks.practice.coordination.resourcesharing.locking;
 
+import com.saidworks.lock.ClhLock;
+import com.saidworks.lock.McsLock;
 import com.saidworks.practice.coordination.resourcesharing.DecrementingThread;
 import com.saidworks.practice.coordination.resourcesharing.IncrementingThread;
+import com.saidworks.practice.coordination.resourcesharing.InventoryCounter;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -10,7 +14,15 @@ public class SynchronizeApp {
     private static final Logger logger = LogManager.getLogger(SynchronizeApp.class);
 
     public static void main(String[] args) throws InterruptedException {
-        InventoryCounterSyncWithLocked inventoryCounterSynchronized = new InventoryCounterSyncWithLocked();
+        List<String> options = List.of(args);
+        InventoryCounter inventoryCounterSynchronized;
+        if (options.contains("--mcs")) {
+            inventoryCounterSynchronized = new InventoryCounterWithLock(new McsLock());
+        } else if (options.contains("--clh")) {
+            inventoryCounterSynchronized = new InventoryCounterWithLock(new ClhLock());
+        } else {
+            inventoryCounterSynchronized = new InventoryCounterSyncWithLocked();
+        }
         IncrementingThread incrementingThread = new IncrementingThread(inventoryCounterSynchronized);
         DecrementingThread decrementingThread = new DecrementingThread(inventoryCounterSynchronized);
 
@@ -0,0 +1,147 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.coordination.resourcesharing.reservation;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Stock that can be reserved but never goes below zero.
+ *
+ * <p>{@link #tryReserve(long)} is a compare-and-set loop on the available count that gives up as soon as there is not
+ * enough stock, so reservers never lock and never overdraw. {@link #reserve(long)} and {@link #tryReserve(long, long,
+ * TimeUnit)} park the caller in a lock-free wait queue until {@link #restock(long)} or {@link #release(long)} brings
+ * enough stock back.
+ *
+ * <p>A release wakes waiters in arrival order for as much stock as it sees, not every waiter, so thousands of parked
+ * reservers do not all stampede for one item. A waiter that gets its stock and sees some left over wakes the next ones
+ * in turn. Waiting is not strictly fair: a thread calling {@code tryReserve} can take stock a parked waiter was woken
+ * for, in which case the waiter parks again.
+ */
+public class ReservableInventory {
+    private final AtomicLong available;
+    private final ConcurrentLinkedQueue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    public ReservableInventory(long initialStock) {
+        if (initialStock < 0) {
+            throw new IllegalArgumentException("initialStock must not be negative: " + initialStock);
+        }
+        this.available = new AtomicLong(initialStock);
+    }
+
+    public long getAvailable() {
+        return available.get();
+    }
+
+    /** Number of threads currently parked waiting for stock. */
+    public int getWaitingCount() {
+        return waiters.size();
+    }
+
+    /** Reserves {@code quantity} items if that many are available right now. */
+    public boolean tryReserve(long quantity) {
+        checkQuantity(quantity);
+        long current;
+        while ((current = available.get()) >= quantity) {
+            if (available.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Reserves {@code quantity} items, waiting for as long as it takes for them to be available. */
+    public void reserve(long quantity) throws InterruptedException {
+        if (!tryReserve(quantity)) {
+            awaitStock(quantity, false, 0);
+        }
+    }
+
+    /**
+     * Reserves {@code quantity} items, waiting up to {@code timeout} for them to be available.
+     *
+     * @return whether the items were reserved
+     */
+    public boolean tryReserve(long quantity, long timeout, TimeUnit unit) throws InterruptedException {
+        return tryReserve(quantity) || awaitStock(quantity, true, System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /** Gives back items an earlier reservation took, for example when an order is cancelled. */
+    public void release(long quantity) {
+        checkQuantity(quantity);
+        available.addAndGet(quantity);
+        signalWaiters();
+    }
+
+    /** Adds newly arrived items. */
+    public void restock(long quantity) {
+        checkQuantity(quantity);
+        available.addAndGet(quantity);
+        signalWaiters();
+    }
+
+    private boolean awaitStock(long quantity, boolean timed, long deadline) throws InterruptedException {
+        Waiter waiter = new Waiter(Thread.currentThread(), quantity);
+        waiters.add(waiter);
+        try {
+            // queued before retrying, so a restock either lets this attempt succeed or sees us in the queue
+            while (!tryReserve(quantity)) {
+                // the wakeup that got us here may have been meant for stock that is still there; pass it on
+                if (available.get() > 0) {
+                    signalWaiters();
+                }
+                if (timed) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                } else {
+                    LockSupport.park(this);
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return true;
+        } finally {
+            waiter.done = true;
+            waiters.remove(waiter);
+            // a wakeup meant for us may have gone unused, or stock may be left over for the next waiter
+            if (available.get() > 0) {
+                signalWaiters();
+            }
+        }
+    }
+
+    private void signalWaiters() {
+        long budget = available.get();
+        for (Waiter waiter : waiters) {
+            if (budget <= 0) {
+                return;
+            }
+            if (!waiter.done && waiter.quantity <= budget) {
+                budget -= waiter.quantity;
+                LockSupport.unpark(waiter.thread);
+            }
+        }
+    }
+
+    private static void checkQuantity(long quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be positive: " + quantity);
+        }
+    }
+
+    private static final class Waiter {
+        private final Thread thread;
+        private final long quantity;
+        private volatile boolean done;
+
+        private Waiter(Thread thread, long quantity) {
+            this.thread = thread;
+            this.quantity = quantity;
+        }
+    }
+}
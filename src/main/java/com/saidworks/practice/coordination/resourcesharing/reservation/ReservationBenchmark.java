@@ -0,0 +1,102 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.coordination.resourcesharing.reservation;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Thousands of virtual-thread reservers competing for a small stock that a restocking thread tops up. Every reserver
+ * places {@link #ORDERS_PER_RESERVER} orders of 1 to 3 items: it tries the lock-free path first, then waits up to
+ * {@link #TIMEOUT_MILLIS} for stock, and cancels one order in four by releasing what it reserved.
+ *
+ * <p>Reports reservations per second, how many had to wait or timed out, and checks that the stock never went
+ * negative and that every item is accounted for at the end.
+ */
+public class ReservationBenchmark {
+    private static final Logger logger = LogManager.getLogger(ReservationBenchmark.class);
+    private static final int ORDERS_PER_RESERVER = 100;
+    private static final long INITIAL_STOCK = 1_000;
+    private static final long RESTOCK_QUANTITY = 200;
+    private static final long RESTOCK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long TIMEOUT_MILLIS = 50;
+
+    public static void main(String[] args) throws InterruptedException {
+        for (int reservers : new int[] {16, 1_000, 5_000}) {
+            run(reservers);
+        }
+    }
+
+    private static void run(int numberOfReservers) throws InterruptedException {
+        ReservableInventory inventory = new ReservableInventory(INITIAL_STOCK);
+        LongAdder immediate = new LongAdder();
+        LongAdder afterWaiting = new LongAdder();
+        LongAdder timedOut = new LongAdder();
+        LongAdder consumed = new LongAdder();
+        LongAdder restocked = new LongAdder();
+        CountDownLatch finished = new CountDownLatch(numberOfReservers);
+
+        Thread restocker = Thread.ofPlatform().name("restocker").start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                inventory.restock(RESTOCK_QUANTITY);
+                restocked.add(RESTOCK_QUANTITY);
+                if (inventory.getAvailable() < 0) {
+                    throw new IllegalStateException("Stock went negative");
+                }
+                LockSupport.parkNanos(RESTOCK_INTERVAL_NANOS);
+            }
+        });
+
+        long start = System.nanoTime();
+        for (int i = 0; i < numberOfReservers; i++) {
+            Thread.ofVirtual().start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    for (int order = 0; order < ORDERS_PER_RESERVER; order++) {
+                        long quantity = 1 + random.nextInt(3);
+                        if (inventory.tryReserve(quantity)) {
+                            immediate.increment();
+                        } else if (inventory.tryReserve(quantity, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                            afterWaiting.increment();
+                        } else {
+                            timedOut.increment();
+                            continue;
+                        }
+                        if (random.nextInt(4) == 0) {
+                            inventory.release(quantity);
+                        } else {
+                            consumed.add(quantity);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        finished.await();
+        long elapsedNanos = System.nanoTime() - start;
+        restocker.interrupt();
+        restocker.join();
+
+        long reservations = immediate.sum() + afterWaiting.sum();
+        long expectedStock = INITIAL_STOCK + restocked.sum() - consumed.sum();
+        if (inventory.getAvailable() != expectedStock) {
+            throw new IllegalStateException(
+                    "Stock is " + inventory.getAvailable() + " but " + expectedStock + " items were expected");
+        }
+        logger.info(
+                "{} reservers: {} reservations/s ({} immediate, {} after waiting, {} timed out), {} items left",
+                numberOfReservers,
+                String.format("%.0f", reservations * 1e9 / elapsedNanos),
+                immediate.sum(),
+                afterWaiting.sum(),
+                timedOut.sum(),
+                inventory.getAvailable());
+    }
+}
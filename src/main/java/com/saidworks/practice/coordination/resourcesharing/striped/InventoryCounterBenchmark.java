@@ -0,0 +1,210 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.coordination.resourcesharing.striped;
+
+import com.saidworks.lock.AdaptiveSpinLock;
+import com.saidworks.practice.coordination.resourcesharing.InventoryCounter;
+import com.saidworks.practice.coordination.resourcesharing.atomic.InventoryAtomicCounter;
+import com.saidworks.practice.coordination.resourcesharing.locking.InventoryCounterSyncWithLocked;
+import com.saidworks.practice.coordination.resourcesharing.locking.InventoryCounterWithLock;
+import com.saidworks.practice.coordination.resourcesharing.synchronization.InventoryCounterSynchronized;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Half the threads increment and half decrement one counter, like {@code IncrementingThread} and {@code
+ * DecrementingThread}, for every counter variant. Reports operations per second and the final count, which should be 0
+ * for every variant except the unsynchronized {@link InventoryCounter}.
+ *
+ * <p>A second run spreads updates over {@link #SKUS} SKUs with half of them going to one hot SKU, comparing {@link
+ * SkuInventoryCounters} to a {@code ConcurrentHashMap<Long, AtomicLong>}, and then times exact and approximate reads of
+ * the hot SKU.
+ */
+public class InventoryCounterBenchmark {
+    private static final Logger logger = LogManager.getLogger(InventoryCounterBenchmark.class);
+    private static final int OPERATIONS_PER_THREAD = 2_000_000;
+    private static final int SKUS = 1024;
+    private static final long HOT_SKU = 42;
+    private static final int READS = 1_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads : new int[] {2, 4, Math.max(8, processors)}) {
+            run("InventoryCounter (unsafe)", threads, () -> counter(new InventoryCounter()));
+            run("InventoryCounterSynchronized", threads, () -> counter(new InventoryCounterSynchronized()));
+            run("InventoryCounterSyncWithLocked", threads, () -> counter(new InventoryCounterSyncWithLocked()));
+            run("InventoryCounterWithLock(ReentrantLock)", threads, () -> lockCounter(new ReentrantLock()));
+            run("InventoryCounterWithLock(AdaptiveSpinLock)", threads, () -> lockCounter(new AdaptiveSpinLock()));
+            run("InventoryAtomicCounter", threads, () -> atomicCounter(new InventoryAtomicCounter()));
+            run("StripedInventoryCounter", threads, () -> counter(new StripedInventoryCounter()));
+        }
+        for (int threads : new int[] {2, Math.max(8, processors)}) {
+            runSkus(threads);
+        }
+    }
+
+    /** One counter as the benchmark sees it; {@code sku} is ignored by the single-counter variants. */
+    private interface Counter {
+        void increment(long sku);
+
+        void decrement(long sku);
+
+        long get(long sku);
+    }
+
+    private static Counter counter(InventoryCounter inventoryCounter) {
+        return new Counter() {
+            @Override
+            public void increment(long sku) {
+                inventoryCounter.increment();
+            }
+
+            @Override
+            public void decrement(long sku) {
+                inventoryCounter.decrement();
+            }
+
+            @Override
+            public long get(long sku) {
+                return inventoryCounter.getItems();
+            }
+        };
+    }
+
+    private static Counter lockCounter(Lock lock) {
+        return counter(new InventoryCounterWithLock(lock));
+    }
+
+    private static Counter atomicCounter(InventoryAtomicCounter inventoryCounter) {
+        return new Counter() {
+            @Override
+            public void increment(long sku) {
+                inventoryCounter.increment();
+            }
+
+            @Override
+            public void decrement(long sku) {
+                inventoryCounter.decrement();
+            }
+
+            @Override
+            public long get(long sku) {
+                return inventoryCounter.getItems();
+            }
+        };
+    }
+
+    private static Counter skuCounters(SkuInventoryCounters counters) {
+        return new Counter() {
+            @Override
+            public void increment(long sku) {
+                counters.increment(sku);
+            }
+
+            @Override
+            public void decrement(long sku) {
+                counters.decrement(sku);
+            }
+
+            @Override
+            public long get(long sku) {
+                return counters.exactCount(sku);
+            }
+        };
+    }
+
+    private static Counter concurrentHashMap() {
+        ConcurrentHashMap<Long, AtomicLong> counters = new ConcurrentHashMap<>();
+        return new Counter() {
+            @Override
+            public void increment(long sku) {
+                counters.computeIfAbsent(sku, key -> new AtomicLong()).incrementAndGet();
+            }
+
+            @Override
+            public void decrement(long sku) {
+                counters.computeIfAbsent(sku, key -> new AtomicLong()).decrementAndGet();
+            }
+
+            @Override
+            public long get(long sku) {
+                AtomicLong counter = counters.get(sku);
+                return counter == null ? 0 : counter.get();
+            }
+        };
+    }
+
+    private static void run(String name, int threads, Supplier<Counter> factory) throws InterruptedException {
+        Counter counter = factory.get();
+        long nanos = hammer(counter, threads, false);
+        logger.info(
+                "{}, {} threads: {} ops/s, final count {}",
+                name,
+                threads,
+                String.format("%.0f", (double) threads * OPERATIONS_PER_THREAD * 1e9 / nanos),
+                counter.get(0));
+    }
+
+    private static void runSkus(int threads) throws InterruptedException {
+        Counter map = concurrentHashMap();
+        long mapNanos = hammer(map, threads, true);
+        SkuInventoryCounters skuCounters = new SkuInventoryCounters();
+        long skuNanos = hammer(skuCounters(skuCounters), threads, true);
+
+        long start = System.nanoTime();
+        long sink = 0;
+        for (int i = 0; i < READS; i++) {
+            sink += skuCounters.exactCount(HOT_SKU);
+        }
+        long exactNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            sink += skuCounters.approximateCount(HOT_SKU);
+        }
+        long approximateNanos = System.nanoTime() - start;
+
+        logger.info(
+                "{} SKUs, {} threads: ConcurrentHashMap<Long, AtomicLong> {} ops/s, SkuInventoryCounters {} ops/s",
+                skuCounters.size(),
+                threads,
+                String.format("%.0f", (double) threads * OPERATIONS_PER_THREAD * 1e9 / mapNanos),
+                String.format("%.0f", (double) threads * OPERATIONS_PER_THREAD * 1e9 / skuNanos));
+        logger.info(
+                "hot SKU reads: exact {} ns, approximate {} ns (hot SKU count {})",
+                String.format("%.1f", (double) exactNanos / READS),
+                String.format("%.1f", (double) approximateNanos / READS),
+                sink / (2L * READS));
+    }
+
+    /** Runs the threads to completion, even threads incrementing and odd ones decrementing, and returns the time. */
+    private static long hammer(Counter counter, int threads, boolean spreadOverSkus) throws InterruptedException {
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            boolean incrementing = i % 2 == 0;
+            workers[i] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int operation = 0; operation < OPERATIONS_PER_THREAD; operation++) {
+                    long sku = spreadOverSkus && random.nextBoolean() ? random.nextInt(SKUS) : HOT_SKU;
+                    if (incrementing) {
+                        counter.increment(sku);
+                    } else {
+                        counter.decrement(sku);
+                    }
+                }
+            });
+        }
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,109 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.coordination.resourcesharing.striped;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Inventory counts for many SKUs keyed by a primitive {@code long}, so updates neither box the key nor hash an object.
+ *
+ * <p>The SKUs live in an open-addressing table with linear probing. Lookups never lock; adding a SKU the table has not
+ * seen yet takes a lock, which is rare since the set of SKUs settles quickly. Each SKU has its own {@link
+ * StripedCounter}, so only SKUs that are actually hot get striped.
+ */
+public class SkuInventoryCounters {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private volatile AtomicReferenceArray<SkuCounter> table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    private int size = 0;
+
+    public void increment(long sku) {
+        counterFor(sku).increment();
+    }
+
+    public void decrement(long sku) {
+        counterFor(sku).decrement();
+    }
+
+    public void add(long sku, long delta) {
+        counterFor(sku).add(delta);
+    }
+
+    /** Count of the SKU including every update that completed before the call; 0 for an unknown SKU. */
+    public long exactCount(long sku) {
+        SkuCounter counter = find(table, sku);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /** Count of the SKU as of at most the counters' staleness ago; 0 for an unknown SKU. */
+    public long approximateCount(long sku) {
+        SkuCounter counter = find(table, sku);
+        return counter == null ? 0 : counter.approximateSum();
+    }
+
+    /** Number of SKUs that have been updated at least once. */
+    public synchronized int size() {
+        return size;
+    }
+
+    private StripedCounter counterFor(long sku) {
+        SkuCounter counter = find(table, sku);
+        return counter != null ? counter : insert(sku);
+    }
+
+    private synchronized SkuCounter insert(long sku) {
+        SkuCounter counter = find(table, sku);
+        if (counter != null) {
+            return counter;
+        }
+        if ((size + 1) * 4 > table.length() * 3) {
+            table = resize(table);
+        }
+        counter = new SkuCounter(sku);
+        place(table, counter);
+        size++;
+        return counter;
+    }
+
+    private static SkuCounter find(AtomicReferenceArray<SkuCounter> table, long sku) {
+        int mask = table.length() - 1;
+        for (int slot = slotOf(sku, mask); ; slot = (slot + 1) & mask) {
+            SkuCounter counter = table.get(slot);
+            if (counter == null || counter.sku == sku) {
+                return counter;
+            }
+        }
+    }
+
+    private static void place(AtomicReferenceArray<SkuCounter> table, SkuCounter counter) {
+        int mask = table.length() - 1;
+        int slot = slotOf(counter.sku, mask);
+        while (table.get(slot) != null) {
+            slot = (slot + 1) & mask;
+        }
+        table.set(slot, counter);
+    }
+
+    private static AtomicReferenceArray<SkuCounter> resize(AtomicReferenceArray<SkuCounter> table) {
+        AtomicReferenceArray<SkuCounter> resized = new AtomicReferenceArray<>(table.length() * 2);
+        for (int slot = 0; slot < table.length(); slot++) {
+            SkuCounter counter = table.get(slot);
+            if (counter != null) {
+                place(resized, counter);
+            }
+        }
+        return resized;
+    }
+
+    private static int slotOf(long sku, int mask) {
+        long mixed = sku * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+
+    private static final class SkuCounter extends StripedCounter {
+        private final long sku;
+
+        private SkuCounter(long sku) {
+            this.sku = sku;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.coordination.resourcesharing.striped;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter that starts as a single field and spreads its updates over padded stripes the first time two threads
+ * collide on it, so cold counters stay small and only hot ones pay for the stripes.
+ *
+ * <p>Each stripe sits {@link #PADDING} longs away from the next one, which keeps two stripes off the same cache line
+ * (and off the adjacent line some CPUs prefetch together). Threads pick a stripe from their id and move to a random
+ * one when they collide.
+ *
+ * <p>{@link #sum()} adds up every stripe: it counts all updates that completed before the call and may or may not
+ * count concurrent ones. {@link #approximateSum()} returns a sum cached for up to the configured staleness, which
+ * saves walking the stripes of a hot counter; a counter that was never striped is read directly.
+ */
+public class StripedCounter {
+    static final int PADDING = 16;
+    private static final int STRIPES = stripesFor(Runtime.getRuntime().availableProcessors());
+    private static final long DEFAULT_STALENESS_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final VarHandle BASE;
+    private static final VarHandle STRIPED;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            BASE = lookup.findVarHandle(StripedCounter.class, "base", long.class);
+            STRIPED = lookup.findVarHandle(StripedCounter.class, "stripes", AtomicLongArray.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long stalenessNanos;
+    private volatile long base;
+    private volatile AtomicLongArray stripes;
+    private volatile long cachedSum;
+    private volatile long cachedAtNanos;
+
+    public StripedCounter() {
+        this(DEFAULT_STALENESS_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param staleness how old the value returned by {@link #approximateSum()} may be
+     */
+    public StripedCounter(long staleness, TimeUnit unit) {
+        this.stalenessNanos = unit.toNanos(staleness);
+        this.cachedAtNanos = System.nanoTime() - stalenessNanos - 1;
+    }
+
+    public void increment() {
+        add(1);
+    }
+
+    public void decrement() {
+        add(-1);
+    }
+
+    public void add(long delta) {
+        AtomicLongArray current = stripes;
+        if (current == null) {
+            long value = base;
+            if (BASE.compareAndSet(this, value, value + delta)) {
+                return;
+            }
+            current = inflate();
+        }
+        int index = stripeIndex(Thread.currentThread().threadId());
+        long value = current.get(index);
+        if (!current.compareAndSet(index, value, value + delta)) {
+            current.getAndAdd(stripeIndex(ThreadLocalRandom.current().nextInt()), delta);
+        }
+    }
+
+    /** Sum of the base and every stripe. */
+    public long sum() {
+        long sum = base;
+        AtomicLongArray current = stripes;
+        if (current != null) {
+            for (int stripe = 1; stripe <= STRIPES; stripe++) {
+                sum += current.get(stripe * PADDING);
+            }
+        }
+        return sum;
+    }
+
+    /** Sum as of at most the configured staleness ago; recomputed by the first reader that finds it too old. */
+    public long approximateSum() {
+        if (stripes == null) {
+            return base;
+        }
+        long now = System.nanoTime();
+        if (now - cachedAtNanos > stalenessNanos) {
+            cachedSum = sum();
+            cachedAtNanos = now;
+        }
+        return cachedSum;
+    }
+
+    /** Whether contention has spread this counter over stripes. */
+    public boolean isStriped() {
+        return stripes != null;
+    }
+
+    private AtomicLongArray inflate() {
+        // stripe 0 is left empty so no stripe shares a cache line with the array header
+        STRIPED.compareAndSet(this, null, new AtomicLongArray((STRIPES + 1) * PADDING));
+        return stripes;
+    }
+
+    private static int stripeIndex(long hash) {
+        long mixed = hash * 0x9E3779B97F4A7C15L;
+        return ((int) (mixed >>> 40) & (STRIPES - 1)) * PADDING + PADDING;
+    }
+
+    private static int stripesFor(int processors) {
+        int stripes = Integer.highestOneBit(Math.max(2, processors) * 2 - 1);
+        return Math.min(stripes, 64);
+    }
+}
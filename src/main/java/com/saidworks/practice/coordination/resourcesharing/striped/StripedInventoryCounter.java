@@ -0,0 +1,31 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.coordination.resourcesharing.striped;
+
+import com.saidworks.practice.coordination.resourcesharing.InventoryCounter;
+
+/**
+ * {@link InventoryCounter} backed by a {@link StripedCounter}, so incrementing and decrementing threads do not keep
+ * pulling the same cache line from each other.
+ */
+public class StripedInventoryCounter extends InventoryCounter {
+    private final StripedCounter items = new StripedCounter();
+
+    @Override
+    public void increment() {
+        items.increment();
+    }
+
+    @Override
+    public void decrement() {
+        items.decrement();
+    }
+
+    @Override
+    public int getItems() {
+        return (int) items.sum();
+    }
+
+    public int getApproximateItems() {
+        return (int) items.approximateSum();
+    }
+}
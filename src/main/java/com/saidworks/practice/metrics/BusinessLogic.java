@@ -1,17 +1,31 @@
 /* Said Zitouni (C)2025 */
 package com.saidworks.practice.metrics;
 
+import com.saidworks.examples.SpscQueue;
 import java.util.Random;
+import java.util.function.LongConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class BusinessLogic extends Thread {
     private static final Logger log = LogManager.getLogger(BusinessLogic.class.getName());
-    private Metrics metrics;
+    private final LongConsumer recorder;
     private final Random random = new Random();
 
     public BusinessLogic(Metrics metrics) {
-        this.metrics = metrics;
+        this.recorder = metrics::addSample;
+    }
+
+    /**
+     * Hands every sample to a {@link MetricsPrinter} through its own queue instead of updating shared metrics under
+     * a lock; the printer is then the only thread touching the metrics.
+     */
+    public BusinessLogic(SpscQueue<Long> samples) {
+        this.recorder = sample -> {
+            if (!samples.offer(sample)) {
+                log.warn("sample queue is full, dropping {}ms", sample);
+            }
+        };
     }
 
     @Override
@@ -27,7 +41,7 @@ public class BusinessLogic extends Thread {
             }
             long endTime = System.currentTimeMillis();
             log.info("execution took : {}ms ", endTime - startTime);
-            metrics.addSample(endTime - startTime);
+            recorder.accept(endTime - startTime);
         }
     }
 }
@@ -1,6 +1,10 @@
 /* Said Zitouni (C)2025 */
 package com.saidworks.practice.metrics;
 
+import com.saidworks.examples.MpmcRingBuffer;
+import com.saidworks.examples.SpscQueue;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -8,6 +12,10 @@ public class DoubleLongApp {
     private static final Logger log = LogManager.getLogger(DoubleLongApp.class);
 
     public static void main(String[] args) {
+        if (List.of(args).contains("--queued")) {
+            runQueued();
+            return;
+        }
         //        Metrics metrics = new Metrics();
         //        BusinessLogic logic1 = new BusinessLogic(metrics);
         //        BusinessLogic logic2 = new BusinessLogic(metrics);
@@ -33,4 +41,19 @@ public class DoubleLongApp {
                 printer.start();
 
     }
+
+    /**
+     * Runs the {@link Metrics} pipeline with one queue per {@link BusinessLogic} thread, so samples are handed over
+     * without any lock and only the printer updates the average.
+     */
+    private static void runQueued() {
+        Metrics metrics = new Metrics();
+        List<SpscQueue<Long>> sampleQueues = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            SpscQueue<Long> sampleQueue = new SpscQueue<>(1024, MpmcRingBuffer.WaitStrategy.PARK);
+            sampleQueues.add(sampleQueue);
+            new BusinessLogic(sampleQueue).start();
+        }
+        new MetricsPrinter(metrics, sampleQueues).start();
+    }
 }
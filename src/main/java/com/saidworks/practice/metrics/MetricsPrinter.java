@@ -1,15 +1,24 @@
 /* Said Zitouni (C)2025 */
 package com.saidworks.practice.metrics;
 
+import com.saidworks.examples.SpscQueue;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public class MetricsPrinter extends Thread {
     Logger logger = LogManager.getLogger(MetricsPrinter.class);
     private Metrics metrics;
+    private final List<SpscQueue<Long>> sampleQueues;
 
     public MetricsPrinter(Metrics metrics) {
+        this(metrics, List.of());
+    }
+
+    /** Also drains the samples queued by {@link BusinessLogic} threads into {@code metrics} before each print. */
+    public MetricsPrinter(Metrics metrics, List<SpscQueue<Long>> sampleQueues) {
         this.metrics = metrics;
+        this.sampleQueues = sampleQueues;
     }
 
     @Override
@@ -21,6 +30,9 @@ public class MetricsPrinter extends Thread {
                 Thread.currentThread().interrupt();
                 logger.error(e);
             }
+            for (SpscQueue<Long> sampleQueue : sampleQueues) {
+                sampleQueue.drainTo(metrics::addSample, Integer.MAX_VALUE);
+            }
             double currentAverage = metrics.getAverage();
             this.setName("Metrics_REF_" + metrics.getInstanceReference());
             logger.info("The current average in the thread ref {} is: {}", this.getName(), currentAverage);
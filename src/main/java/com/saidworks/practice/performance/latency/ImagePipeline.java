@@ -0,0 +1,120 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.performance.latency;
+
+import com.saidworks.examples.MpmcRingBuffer;
+import com.saidworks.examples.SpscQueue;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Recolors a series of images as a pipeline: a decode stage, a recolor stage and an encode stage each run on their
+ * own thread and hand images to the next stage through an {@link SpscQueue}, so decoding image n+1 overlaps with
+ * recoloring image n and encoding image n-1. Prints images per second next to doing the same steps one after the
+ * other on a single thread, and writes the last image to {@link ImageApp#DESTINATION_FILE}.
+ */
+public class ImagePipeline {
+    private static final Logger log = LogManager.getLogger(ImagePipeline.class.getName());
+    private static final int DEFAULT_IMAGES = 8;
+    private static final int QUEUE_CAPACITY = 2;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int images = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_IMAGES;
+        byte[] source = Files.readAllBytes(Path.of(ImageApp.SOURCE_FILE));
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < images; i++) {
+            encode(recolor(decode(source)));
+        }
+        long sequentialNanos = System.nanoTime() - startTime;
+
+        startTime = System.nanoTime();
+        byte[] output = runPipeline(source, images);
+        long pipelineNanos = System.nanoTime() - startTime;
+
+        Files.write(Path.of(ImageApp.DESTINATION_FILE), output);
+        log.info(
+                "{} images: sequential {} images/s, pipelined {} images/s",
+                images,
+                String.format("%.2f", images * 1e9 / sequentialNanos),
+                String.format("%.2f", images * 1e9 / pipelineNanos));
+    }
+
+    /** Runs the three stages and returns the last encoded image. */
+    public static byte[] runPipeline(byte[] source, int images) throws InterruptedException {
+        SpscQueue<BufferedImage> decoded = new SpscQueue<>(QUEUE_CAPACITY, MpmcRingBuffer.WaitStrategy.PARK);
+        SpscQueue<BufferedImage> recolored = new SpscQueue<>(QUEUE_CAPACITY, MpmcRingBuffer.WaitStrategy.PARK);
+        Thread encoder = Thread.currentThread();
+
+        Thread recolorer = startStage("recolor", encoder, () -> {
+            for (int i = 0; i < images; i++) {
+                recolored.put(recolor(decoded.take()));
+            }
+        });
+        startStage("decode", recolorer, () -> {
+            for (int i = 0; i < images; i++) {
+                decoded.put(decode(source));
+            }
+        });
+
+        byte[] output = null;
+        for (int i = 0; i < images; i++) {
+            output = encode(recolored.take());
+        }
+        return output;
+    }
+
+    private interface Stage {
+        void run() throws InterruptedException;
+    }
+
+    /** Starts a stage that interrupts the next stage if it fails, so the pipeline does not wait forever. */
+    private static Thread startStage(String name, Thread downstream, Stage stage) {
+        Thread thread = new Thread(
+                () -> {
+                    try {
+                        stage.run();
+                    } catch (InterruptedException | RuntimeException e) {
+                        log.error("{} stage failed", name, e);
+                        downstream.interrupt();
+                    }
+                },
+                name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static BufferedImage decode(byte[] source) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(source));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BufferedImage recolor(BufferedImage inputImage) {
+        int width = inputImage.getWidth();
+        int height = inputImage.getHeight();
+        BufferedImage outputImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        RgbUtil.reColorImageSingleThreaded(inputImage, outputImage, 0, 0, width, height);
+        return outputImage;
+    }
+
+    private static byte[] encode(BufferedImage image) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "jpg", output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,54 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.performance.latency;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/** Exposes {@link RgbUtil#recolorMultiThreaded} over HTTP, returning the recolored image as JPEG. */
+@RestController
+public class RecolorController {
+    private static final String IMAGE_JPEG = "image/jpeg";
+    // recolorMultiThreaded starts one platform thread per unit, so a request must not ask for more
+    private static final int MAX_THREADS = Math.max(64, Runtime.getRuntime().availableProcessors() * 4);
+
+    @PostMapping(value = "/recolor", produces = IMAGE_JPEG)
+    public byte[] recolor(
+            @RequestBody byte[] image, @RequestParam(value = "threads", defaultValue = "4") int threads)
+            throws IOException, InterruptedException {
+        BufferedImage inputImage = ImageIO.read(new ByteArrayInputStream(image));
+        if (inputImage == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "request body is not a readable image");
+        }
+        return recolor(inputImage, threads);
+    }
+
+    /** Recolors the bundled {@link ImageApp#SOURCE_FILE}, so load tests need no upload. */
+    @GetMapping(value = "/recolor/sample", produces = IMAGE_JPEG)
+    public byte[] recolorSample(@RequestParam(value = "threads", defaultValue = "4") int threads)
+            throws IOException, InterruptedException {
+        return recolor(ImageIO.read(new File(ImageApp.SOURCE_FILE)), threads);
+    }
+
+    private byte[] recolor(BufferedImage inputImage, int threads) throws IOException, InterruptedException {
+        if (threads <= 0 || threads > MAX_THREADS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "threads must be between 1 and " + MAX_THREADS);
+        }
+        BufferedImage outputImage =
+                new BufferedImage(inputImage.getWidth(), inputImage.getHeight(), BufferedImage.TYPE_INT_RGB);
+        RgbUtil.recolorMultiThreaded(inputImage, outputImage, Math.min(threads, inputImage.getHeight()));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(outputImage, "jpg", output);
+        return output.toByteArray();
+    }
+}
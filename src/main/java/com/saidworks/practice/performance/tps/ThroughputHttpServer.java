@@ -10,7 +10,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
 public class ThroughputHttpServer {
-    private static final String INPUT_FILE = "src/main/resources/tps/war_and_peace.txt";
+    static final String INPUT_FILE = "src/main/resources/tps/war_and_peace.txt";
     private static final int NUM_THREADS = 12;
 
     public static void main(String[] args) throws IOException {
@@ -0,0 +1,29 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.performance.tps;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/** Serves the same {@code /search?word=} query as {@link ThroughputHttpServer} from the Boot application. */
+@RestController
+public class WordCountController {
+    private final WordCounter wordCounter;
+
+    public WordCountController() throws IOException {
+        this.wordCounter = new WordCounter(new String(Files.readAllBytes(Paths.get(ThroughputHttpServer.INPUT_FILE))));
+    }
+
+    @GetMapping("/search")
+    public long search(@RequestParam("word") String word) {
+        if (word.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "word must not be blank");
+        }
+        return wordCounter.countWord(word);
+    }
+}
@@ -10,10 +10,10 @@ import org.apache.logging.log4j.Logger;
 
 public class WordCountHandler implements HttpHandler {
     Logger logger = LogManager.getLogger(WordCountHandler.class);
-    private String text;
+    private final WordCounter wordCounter;
 
     public WordCountHandler(String text) {
-        this.text = text;
+        this.wordCounter = new WordCounter(text);
     }
 
     @Override
@@ -28,7 +28,7 @@ public class WordCountHandler implements HttpHandler {
             logger.error("bad request {} {}", action, word);
             return;
         }
-        long count = countWord(word);
+        long count = wordCounter.countWord(word);
         byte[] response = Long.toString(count).getBytes();
         exchange.sendResponseHeaders(200, response.length);
         OutputStream os = exchange.getResponseBody();
@@ -36,17 +36,4 @@ public class WordCountHandler implements HttpHandler {
         logger.info("request processed | the word count for {} is {}", word, count);
         os.close();
     }
-
-    private long countWord(String word) {
-        long count = 0;
-        int index = 0;
-        while (index >= 0) {
-            index = text.indexOf(word, index);
-            if (index >= 0) {
-                count++;
-                index++;
-            }
-        }
-        return count;
-    }
 }
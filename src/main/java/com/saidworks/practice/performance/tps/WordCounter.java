@@ -0,0 +1,26 @@
+/* Said Zitouni (C)2025 */
+package com.saidworks.practice.performance.tps;
+
+public class WordCounter {
+    private final String text;
+
+    public WordCounter(String text) {
+        this.text = text;
+    }
+
+    public long countWord(String word) {
+        if (word.isEmpty()) {
+            throw new IllegalArgumentException("word must not be empty");
+        }
+        long count = 0;
+        int index = 0;
+        while (index >= 0) {
+            index = text.indexOf(word, index);
+            if (index >= 0) {
+                count++;
+                index++;
+            }
+        }
+        return count;
+    }
+}
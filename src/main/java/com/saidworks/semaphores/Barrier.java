@@ -1,19 +1,26 @@
 package com.saidworks.semaphores;
 
+import com.saidworks.lock.AdaptiveSpinLock;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
-public class Barrier {
+public class Barrier implements WorkerBarrier {
     private final int numberOfWorkers;
     private final Semaphore semaphore = new Semaphore(0);
     private int counter = 0;
-    private final Lock lock = new ReentrantLock();
+    private final Lock lock;
 
     public Barrier(int numberOfWorkers) {
+        // the critical section only bumps the counter, so spinning beats parking
+        this(numberOfWorkers, new AdaptiveSpinLock());
+    }
+
+    public Barrier(int numberOfWorkers, Lock lock) {
         this.numberOfWorkers = numberOfWorkers;
+        this.lock = lock;
     }
 
+    @Override
     public void waitForOthers() throws InterruptedException {
         lock.lock();
         boolean isLastWorker = false;
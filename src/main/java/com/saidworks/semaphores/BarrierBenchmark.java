@@ -0,0 +1,77 @@
+package com.saidworks.semaphores;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Phaser;
+import java.util.function.IntFunction;
+
+/**
+ * Compares phase throughput of {@link ReusableBarrier} and {@link CombiningTreeBarrier} against
+ * {@link CyclicBarrier} and {@link Phaser} when workers do almost no work between phases, so the barrier itself dominates.
+ */
+public class BarrierBenchmark {
+    private static final int NUMBER_OF_PHASES = 100_000;
+    private static final int WARMUP_PHASES = 10_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int numberOfThreads : new int[] {2, 4, 8, 16, Math.max(32, processors)}) {
+            System.out.println("--- " + numberOfThreads + " threads, " + NUMBER_OF_PHASES + " phases ---");
+            run("ReusableBarrier", numberOfThreads, ReusableBarrier::new);
+            run("CombiningTree", numberOfThreads, CombiningTreeBarrier::new);
+            run("CyclicBarrier", numberOfThreads, BarrierBenchmark::cyclicBarrier);
+            run("Phaser", numberOfThreads, BarrierBenchmark::phaser);
+        }
+    }
+
+    private static void run(String name, int numberOfThreads, IntFunction<WorkerBarrier> barrierFactory)
+            throws InterruptedException {
+        runPhases(numberOfThreads, WARMUP_PHASES, barrierFactory.apply(numberOfThreads));
+        long elapsedNanos = runPhases(numberOfThreads, NUMBER_OF_PHASES, barrierFactory.apply(numberOfThreads));
+        System.out.println(String.format(
+                "%-16s %8d ms %12.0f phases/s",
+                name, elapsedNanos / 1_000_000, NUMBER_OF_PHASES * 1e9 / elapsedNanos));
+    }
+
+    private static long runPhases(int numberOfThreads, int numberOfPhases, WorkerBarrier barrier)
+            throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (int phase = 0; phase < numberOfPhases; phase++) {
+                        barrier.waitForOthers();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static WorkerBarrier cyclicBarrier(int numberOfThreads) {
+        CyclicBarrier cyclicBarrier = new CyclicBarrier(numberOfThreads);
+        return () -> {
+            try {
+                cyclicBarrier.await();
+            } catch (BrokenBarrierException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static WorkerBarrier phaser(int numberOfThreads) {
+        Phaser phaser = new Phaser(numberOfThreads);
+        return () -> phaser.awaitAdvanceInterruptibly(phaser.arrive());
+    }
+}
@@ -0,0 +1,148 @@
+package com.saidworks.semaphores;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reusable barrier for high core counts where a single shared counter becomes the bottleneck.
+ *
+ * Workers are spread over the leaves of a tree, at most {@code radix} per leaf. The last worker
+ * to arrive at a node carries the arrival one level up, so every counter is written by at most
+ * {@code radix} threads. When the root is complete, each last arriver flips the sense flag of the
+ * node it completed on the way back down, releasing the workers waiting on that node only.
+ * Waiting workers spin on their node's flag, then yield for a while, and then park until the
+ * worker that flips the flag unparks them, so long phases or more workers than cores do not keep
+ * the waiters on the CPU. A worker interrupted while waiting leaves its arrival counted, so the
+ * barrier must not be reused after that.
+ *
+ * A thread is bound to a leaf on its first call, so the same {@code numberOfWorkers} threads must
+ * use the barrier for every phase.
+ */
+public class CombiningTreeBarrier implements WorkerBarrier {
+    private static final int DEFAULT_RADIX = 4;
+    private static final int SPIN_ITERATIONS =
+            Runtime.getRuntime().availableProcessors() > 1 ? 1 << 10 : 0;
+    private static final int YIELD_ITERATIONS = 64;
+
+    private final int numberOfWorkers;
+    private final List<Node> leaves = new ArrayList<>();
+    private final AtomicInteger nextWorker = new AtomicInteger();
+    private final ThreadLocal<WorkerState> workerState = ThreadLocal.withInitial(this::bindWorker);
+
+    public CombiningTreeBarrier(int numberOfWorkers) {
+        this(numberOfWorkers, DEFAULT_RADIX);
+    }
+
+    /**
+     * @param radix how many workers share a leaf, and how many nodes share a parent
+     */
+    public CombiningTreeBarrier(int numberOfWorkers, int radix) {
+        if (numberOfWorkers <= 0) {
+            throw new IllegalArgumentException("numberOfWorkers must be positive");
+        }
+        if (radix < 2) {
+            throw new IllegalArgumentException("radix must be at least 2");
+        }
+        this.numberOfWorkers = numberOfWorkers;
+
+        for (int remaining = numberOfWorkers; remaining > 0; remaining -= radix) {
+            leaves.add(new Node(Math.min(radix, remaining)));
+        }
+        List<Node> level = leaves;
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>();
+            for (int i = 0; i < level.size(); i += radix) {
+                int end = Math.min(level.size(), i + radix);
+                Node parent = new Node(end - i);
+                for (Node child : level.subList(i, end)) {
+                    child.parent = parent;
+                }
+                parents.add(parent);
+            }
+            level = parents;
+        }
+    }
+
+    @Override
+    public void waitForOthers() throws InterruptedException {
+        WorkerState state = workerState.get();
+        state.sense = !state.sense;
+        state.leaf.await(state.sense);
+    }
+
+    private WorkerState bindWorker() {
+        int worker = nextWorker.getAndIncrement();
+        if (worker >= numberOfWorkers) {
+            throw new IllegalStateException("more than " + numberOfWorkers + " threads are using the barrier");
+        }
+        return new WorkerState(leaves.get(worker / leaves.get(0).size));
+    }
+
+    private static final class WorkerState {
+        private final Node leaf;
+        private boolean sense = false;
+
+        private WorkerState(Node leaf) {
+            this.leaf = leaf;
+        }
+    }
+
+    private static final class Node {
+        private final int size;
+        private final AtomicInteger arrived = new AtomicInteger();
+        private final Queue<Thread> parked = new ConcurrentLinkedQueue<>();
+        private volatile boolean sense = false;
+        private Node parent;
+
+        private Node(int size) {
+            this.size = size;
+        }
+
+        private void await(boolean phaseSense) throws InterruptedException {
+            if (arrived.incrementAndGet() == size) {
+                if (parent != null) {
+                    parent.await(phaseSense);
+                }
+                arrived.set(0);
+                sense = phaseSense;
+                // waiters register before checking the flag again, so none can miss the flip
+                for (Thread waiter : parked) {
+                    LockSupport.unpark(waiter);
+                }
+                return;
+            }
+
+            for (int i = 0; sense != phaseSense; i++) {
+                if (i < SPIN_ITERATIONS) {
+                    Thread.onSpinWait();
+                } else {
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    if (i < SPIN_ITERATIONS + YIELD_ITERATIONS) {
+                        Thread.yield();
+                    } else {
+                        park(phaseSense);
+                    }
+                }
+            }
+        }
+
+        /** Parks until the flag flips to {@code phaseSense} or the thread is interrupted. */
+        private void park(boolean phaseSense) {
+            Thread current = Thread.currentThread();
+            parked.add(current);
+            try {
+                while (sense != phaseSense && !current.isInterrupted()) {
+                    LockSupport.park(this);
+                }
+            } finally {
+                parked.remove(current);
+            }
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package com.saidworks.semaphores;
 
 public class CoordinatedWorkRunner implements Runnable {
-    private final Barrier barrier;
+    private final WorkerBarrier barrier;
+    private final int numberOfPhases;
 
-    public CoordinatedWorkRunner(Barrier barrier) {
+    public CoordinatedWorkRunner(WorkerBarrier barrier) {
+        this(barrier, 1);
+    }
+
+    /**
+     * @param numberOfPhases how many times the worker meets the others at the barrier; a
+     *                       reusable barrier such as {@link ReusableBarrier} is needed for more than one
+     */
+    public CoordinatedWorkRunner(WorkerBarrier barrier, int numberOfPhases) {
         this.barrier = barrier;
+        this.numberOfPhases = numberOfPhases;
     }
 
     @Override
@@ -16,14 +26,16 @@ public class CoordinatedWorkRunner implements Runnable {
     }
 
     private void task() throws InterruptedException {
-        // Performing Part 1
-        System.out.println(Thread.currentThread().getName()
-                + " part 1 of the work is finished");
+        for (int phase = 1; phase <= numberOfPhases; phase++) {
+            // Performing Part phase
+            System.out.println(Thread.currentThread().getName()
+                    + " part " + phase + " of the work is finished");
 
-        barrier.waitForOthers();
+            barrier.waitForOthers();
+        }
 
-        // Performing Part2
+        // Performing the last part
         System.out.println(Thread.currentThread().getName()
-                + " part 2 of the work is finished");
+                + " part " + (numberOfPhases + 1) + " of the work is finished");
     }
-}
\ No newline at end of file
+}
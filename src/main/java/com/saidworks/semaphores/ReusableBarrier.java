@@ -0,0 +1,128 @@
+package com.saidworks.semaphores;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Cyclic barrier that can be reused for any number of phases.
+ *
+ * Arrivals are counted with a CAS on an {@link AtomicInteger} instead of a lock. The last worker
+ * of a phase runs the optional barrier action, resets the count and starts a new generation.
+ * The other workers wait for their generation to be released, first by spinning, then by parking
+ * until the last worker unparks them.
+ */
+public class ReusableBarrier implements WorkerBarrier {
+    private static final int DEFAULT_SPIN_ITERATIONS =
+            Runtime.getRuntime().availableProcessors() > 1 ? 1 << 10 : 0;
+
+    private final int numberOfWorkers;
+    private final Runnable barrierAction;
+    private final int spinIterations;
+    private final AtomicInteger arrived = new AtomicInteger();
+    private volatile Generation generation = new Generation(0);
+    private volatile boolean broken = false;
+
+    public ReusableBarrier(int numberOfWorkers) {
+        this(numberOfWorkers, null);
+    }
+
+    public ReusableBarrier(int numberOfWorkers, Runnable barrierAction) {
+        this(numberOfWorkers, barrierAction, DEFAULT_SPIN_ITERATIONS);
+    }
+
+    /**
+     * @param barrierAction run by the last worker to arrive, before the others are released; may be null
+     * @param spinIterations how many times a waiting worker spins before parking
+     */
+    public ReusableBarrier(int numberOfWorkers, Runnable barrierAction, int spinIterations) {
+        if (numberOfWorkers <= 0) {
+            throw new IllegalArgumentException("numberOfWorkers must be positive");
+        }
+        this.numberOfWorkers = numberOfWorkers;
+        this.barrierAction = barrierAction;
+        this.spinIterations = spinIterations;
+    }
+
+    @Override
+    public void waitForOthers() throws InterruptedException {
+        checkNotBroken();
+        Generation currentGeneration = generation;
+        if (arrived.incrementAndGet() == numberOfWorkers) {
+            try {
+                if (barrierAction != null) {
+                    barrierAction.run();
+                }
+            } finally {
+                arrived.set(0);
+                generation = new Generation(currentGeneration.number + 1);
+                currentGeneration.release();
+            }
+            return;
+        }
+
+        for (int i = 0; i < spinIterations; i++) {
+            if (currentGeneration.released) {
+                return;
+            }
+            checkNotBroken();
+            Thread.onSpinWait();
+        }
+
+        currentGeneration.parkedWorkers.add(Thread.currentThread());
+        while (!currentGeneration.released) {
+            checkNotBroken();
+            if (Thread.interrupted()) {
+                breakBarrier();
+                throw new InterruptedException();
+            }
+            LockSupport.park(this);
+        }
+    }
+
+    /** Returns the number of phases completed so far. */
+    public int getGeneration() {
+        return generation.number;
+    }
+
+    public boolean isBroken() {
+        return broken;
+    }
+
+    private void breakBarrier() {
+        broken = true;
+        generation.unparkAll();
+    }
+
+    private void checkNotBroken() {
+        if (broken) {
+            throw new IllegalStateException("barrier is broken: a worker was interrupted while waiting");
+        }
+    }
+
+    /**
+     * One phase of the barrier. Each phase has its own queue of parked workers so the last worker
+     * of a phase can never consume the queue entry of a worker that already moved on to the next one.
+     */
+    private static final class Generation {
+        private final int number;
+        private final ConcurrentLinkedQueue<Thread> parkedWorkers = new ConcurrentLinkedQueue<>();
+        private volatile boolean released = false;
+
+        private Generation(int number) {
+            this.number = number;
+        }
+
+        private void release() {
+            released = true;
+            unparkAll();
+        }
+
+        private void unparkAll() {
+            Thread worker;
+            while ((worker = parkedWorkers.poll()) != null) {
+                LockSupport.unpark(worker);
+            }
+        }
+    }
+}
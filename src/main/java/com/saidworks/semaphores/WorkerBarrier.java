@@ -0,0 +1,9 @@
+package com.saidworks.semaphores;
+
+/**
+ * Rendezvous point for a fixed number of workers: every call to {@link #waitForOthers()} blocks
+ * until all workers have called it.
+ */
+public interface WorkerBarrier {
+    void waitForOthers() throws InterruptedException;
+}
@@ -0,0 +1,114 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.threadpool;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fans a batch of {@link Callable}s out over a fixed pool while keeping at most {@code
+ * maxInFlight} of them queued or running. The submitting thread blocks when the window is full
+ * instead of the pool rejecting work, and every result is handed to a callback as soon as its task
+ * completes, so callbacks see results in completion order rather than submission order.
+ */
+public class BoundedBatchExecutor implements AutoCloseable {
+  private final ThreadPoolExecutor executor;
+  private final Semaphore window;
+
+  /**
+   * @param threads number of worker threads
+   * @param maxInFlight maximum number of tasks queued or running at any time
+   */
+  public BoundedBatchExecutor(int threads, int maxInFlight) {
+    if (maxInFlight < threads) {
+      throw new IllegalArgumentException("maxInFlight must be at least the number of threads");
+    }
+    // the window guarantees the queue never holds more than maxInFlight tasks, so it never rejects
+    this.executor =
+        new ThreadPoolExecutor(
+            threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(maxInFlight));
+    this.window = new Semaphore(maxInFlight);
+    executor.prestartAllCoreThreads();
+  }
+
+  /**
+   * Runs every task and blocks until all of them have completed and their callbacks have run.
+   *
+   * @param callback invoked on the worker thread with the index of the task in {@code tasks}
+   */
+  public <T> BatchStats executeAll(List<? extends Callable<T>> tasks, TaskCallback<T> callback)
+      throws InterruptedException {
+    CountDownLatch remaining = new CountDownLatch(tasks.size());
+    AtomicInteger failures = new AtomicInteger();
+    LongAdder totalQueueWaitNanos = new LongAdder();
+    AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+    long start = System.nanoTime();
+    for (int i = 0; i < tasks.size(); i++) {
+      window.acquire();
+      int taskIndex = i;
+      Callable<T> task = tasks.get(i);
+      long submittedAt = System.nanoTime();
+      executor.execute(
+          () -> {
+            long queueWait = System.nanoTime() - submittedAt;
+            totalQueueWaitNanos.add(queueWait);
+            maxQueueWaitNanos.accumulateAndGet(queueWait, Math::max);
+            try {
+              T result;
+              try {
+                result = task.call();
+              } catch (Exception e) {
+                failures.incrementAndGet();
+                callback.onCompletion(taskIndex, null, e);
+                return;
+              }
+              callback.onCompletion(taskIndex, result, null);
+            } finally {
+              window.release();
+              remaining.countDown();
+            }
+          });
+    }
+    remaining.await();
+    return new BatchStats(
+        tasks.size(),
+        failures.get(),
+        System.nanoTime() - start,
+        totalQueueWaitNanos.sum(),
+        maxQueueWaitNanos.get());
+  }
+
+  @Override
+  public void close() {
+    executor.close();
+  }
+
+  @FunctionalInterface
+  public interface TaskCallback<T> {
+    /**
+     * @param result the value returned by the task, or null when it failed
+     * @param failure the exception thrown by the task, or null when it succeeded
+     */
+    void onCompletion(int taskIndex, T result, Exception failure);
+  }
+
+  /** Aggregate timings of one {@link #executeAll} call. */
+  public record BatchStats(
+      int tasks, int failures, long elapsedNanos, long totalQueueWaitNanos, long maxQueueWaitNanos) {
+    public double tasksPerSecond() {
+      return tasks * 1e9 / elapsedNanos;
+    }
+
+    public long averageQueueWaitNanos() {
+      return tasks == 0 ? 0 : totalQueueWaitNanos / tasks;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.threadpool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/** Compares one {@link StringTaskCallable} per string against {@link BulkStringTransformer}. */
+public class BulkStringTransformBenchmark {
+  private static final Logger logger = LogManager.getLogger();
+  private static final int NUMBER_OF_STRINGS = 1_000_000;
+  private static final int WORD_LENGTH = 32;
+  private static final int ROUNDS = 5;
+
+  public static void main(String[] args) throws InterruptedException, ExecutionException {
+    int parallelism = Runtime.getRuntime().availableProcessors();
+    List<String> inputs =
+        RandomStringWithQuestionMark.generateListOfStrings(NUMBER_OF_STRINGS, WORD_LENGTH);
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+      BulkStringTransformer transformer = new BulkStringTransformer(executor, parallelism);
+      for (int round = 1; round <= ROUNDS; round++) {
+        long start = System.nanoTime();
+        perTask(inputs, executor);
+        long perTaskNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        transformer.questionMarksToDots(inputs);
+        long bulkNanos = System.nanoTime() - start;
+
+        logger.info(
+            "round {}: per-task {} ms, bulk {} ms ({}x)",
+            round,
+            TimeUnit.NANOSECONDS.toMillis(perTaskNanos),
+            TimeUnit.NANOSECONDS.toMillis(bulkNanos),
+            String.format("%.1f", (double) perTaskNanos / bulkNanos));
+      }
+    }
+  }
+
+  private static List<String> perTask(List<String> inputs, ExecutorService executor)
+      throws InterruptedException, ExecutionException {
+    List<Future<String>> futures = new ArrayList<>(inputs.size());
+    for (String input : inputs) {
+      futures.add(executor.submit(new StringTaskCallable(input)));
+    }
+    List<String> results = new ArrayList<>(inputs.size());
+    for (Future<String> future : futures) {
+      results.add(future.get());
+    }
+    return results;
+  }
+}
@@ -0,0 +1,57 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.threadpool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Replaces one character by another across a whole batch of strings, splitting the batch into
+ * contiguous chunks that run in parallel on a shared executor. Unlike {@link StringTaskCallable}
+ * there is one task per chunk instead of one per string, and results are written into a
+ * preallocated array.
+ */
+public class BulkStringTransformer {
+  private static final int MIN_CHUNK_SIZE = 1024;
+
+  private final ExecutorService executor;
+  private final int parallelism;
+
+  public BulkStringTransformer(ExecutorService executor, int parallelism) {
+    this.executor = executor;
+    this.parallelism = parallelism;
+  }
+
+  /** Returns the strings with every {@code '?'} replaced by {@code '.'}, in input order. */
+  public List<String> questionMarksToDots(List<String> inputs) {
+    return replaceAll(inputs, '?', '.');
+  }
+
+  public List<String> replaceAll(List<String> inputs, char target, char replacement) {
+    String[] source = inputs.toArray(new String[0]);
+    String[] output = new String[source.length];
+    int chunkSize = Math.max(MIN_CHUNK_SIZE, (source.length + parallelism * 4 - 1) / (parallelism * 4));
+
+    List<CompletableFuture<Void>> chunks = new ArrayList<>();
+    for (int from = 0; from < source.length; from += chunkSize) {
+      int start = from;
+      int end = Math.min(source.length, from + chunkSize);
+      chunks.add(
+          CompletableFuture.runAsync(
+              () -> replaceRange(source, output, start, end, target, replacement), executor));
+    }
+    CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).join();
+    return Arrays.asList(output);
+  }
+
+  private static void replaceRange(
+      String[] source, String[] output, int from, int to, char target, char replacement) {
+    for (int i = from; i < to; i++) {
+      // replace(char, char) scans the compact Latin-1 byte array directly and returns the same
+      // instance when the character is absent; replace(CharSequence, CharSequence) does not
+      output[i] = source[i].replace(target, replacement);
+    }
+  }
+}
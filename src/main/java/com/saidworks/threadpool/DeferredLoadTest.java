@@ -0,0 +1,81 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.threadpool;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Fires bursts of concurrent requests at the three {@link DemoDefferedController} endpoints of a
+ * running server and reports how many of them were held open and completed successfully.
+ *
+ * <p>Usage: {@code DeferredLoadTest [baseUrl] [concurrency...]}, defaulting to {@code
+ * http://localhost:8080} and bursts of 1000, 5000 and 10000 requests.
+ */
+public class DeferredLoadTest {
+  private static final Logger logger = LogManager.getLogger();
+  private static final String[] ENDPOINTS = {"/deferred", "/deferred/virtual", "/deferred/thread"};
+
+  public static void main(String[] args) throws InterruptedException {
+    String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+    List<Integer> concurrencyLevels = new ArrayList<>();
+    for (int i = 1; i < args.length; i++) {
+      concurrencyLevels.add(Integer.parseInt(args[i]));
+    }
+    if (concurrencyLevels.isEmpty()) {
+      concurrencyLevels = List.of(1_000, 5_000, 10_000);
+    }
+
+    try (HttpClient client =
+        HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build()) {
+      for (int concurrency : concurrencyLevels) {
+        for (String endpoint : ENDPOINTS) {
+          burst(client, URI.create(baseUrl + endpoint), concurrency);
+        }
+      }
+    }
+  }
+
+  private static void burst(HttpClient client, URI uri, int concurrency) {
+    AtomicInteger succeeded = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).build();
+
+    long start = System.nanoTime();
+    List<CompletableFuture<Void>> responses = new ArrayList<>(concurrency);
+    for (int i = 0; i < concurrency; i++) {
+      responses.add(
+          client
+              .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+              .handle(
+                  (response, failure) -> {
+                    if (failure == null && response.statusCode() == 200) {
+                      succeeded.incrementAndGet();
+                    } else {
+                      failed.incrementAndGet();
+                    }
+                    return null;
+                  }));
+    }
+    CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).join();
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    logger.info(
+        "{} x{}: {} ok, {} failed in {} ms ({} req/s)",
+        uri.getPath(),
+        concurrency,
+        succeeded.get(),
+        failed.get(),
+        elapsedMillis,
+        String.format("%.0f", succeeded.get() * 1000.0 / Math.max(1, elapsedMillis)));
+  }
+}
@@ -1,24 +1,71 @@
 /* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
 package com.saidworks.threadpool;
 
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 public class DemoDefferedController {
+  static final long RESULT_DELAY_MILLIS = 500;
+  static final String RESULT = "Result from DeferredResult";
+
+  /**
+   * Completes every pending result from one timer wheel: an in-flight request only costs its
+   * scheduled task instead of a sleeping thread and its stack.
+   */
+  private final ScheduledExecutorService completions =
+      new HashedWheelScheduler(1, TimeUnit.MILLISECONDS, 512, 2);
+
   @GetMapping("/deferred")
   public DeferredResult<String> getAsyncResult() {
+    DeferredResult<String> result = new DeferredResult<>();
+    ScheduledFuture<?> completion =
+        completions.schedule(
+            () -> result.setResult(RESULT), RESULT_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    // drop the pending completion when the request times out or the client goes away
+    result.onCompletion(() -> completion.cancel(false));
+    return result;
+  }
+
+  /** Sleeps on a virtual thread, which unmounts from its carrier while sleeping. */
+  @GetMapping("/deferred/virtual")
+  public DeferredResult<String> getAsyncResultOnVirtualThread() {
+    DeferredResult<String> result = new DeferredResult<>();
+    Thread.startVirtualThread(
+        () -> {
+          try {
+            Thread.sleep(RESULT_DELAY_MILLIS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          result.setResult(RESULT);
+        });
+    return result;
+  }
+
+  /** Original thread-per-request completion, kept as the baseline for {@link DeferredLoadTest}. */
+  @GetMapping("/deferred/thread")
+  public DeferredResult<String> getAsyncResultOnPlatformThread() {
     DeferredResult<String> result = new DeferredResult<>();
     new Thread(
             () -> {
               try {
-                Thread.sleep(500);
+                Thread.sleep(RESULT_DELAY_MILLIS);
               } catch (InterruptedException ignored) {
               }
-              result.setResult("Result from DeferredResult");
+              result.setResult(RESULT);
             })
         .start();
     return result;
   }
+
+  @PreDestroy
+  public void shutdown() {
+    completions.shutdownNow();
+  }
 }
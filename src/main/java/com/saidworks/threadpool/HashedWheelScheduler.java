@@ -0,0 +1,437 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.threadpool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ScheduledExecutorService} backed by a hierarchical hashed timer wheel instead of the heap
+ * of {@link java.util.concurrent.ScheduledThreadPoolExecutor}.
+ *
+ * <p>Scheduling and cancelling only push the task onto a lock-free queue, so both are O(1) for the
+ * caller. A single ticker thread drains those queues once per tick and links tasks into the wheel:
+ * level 0 has one slot per tick, and each higher level has slots spanning a whole rotation of the
+ * level below. When a lower level wraps around, the matching slot of the level above is cascaded
+ * down. Expired tasks are handed to a separate worker pool so a slow task never delays the ticker.
+ *
+ * <p>Tasks fire at tick granularity and never early: a task is due on the first tick at or after its
+ * deadline. After {@link #shutdown()} already scheduled one-shot tasks still run, periodic tasks are
+ * cancelled, and the worker pool is shut down once the wheel is empty.
+ */
+public class HashedWheelScheduler extends AbstractExecutorService
+    implements ScheduledExecutorService {
+  private static final int LEVELS = 4;
+  // keeps the LEVELS * wheelBits bits of the full horizon below 64
+  private static final int MAX_WHEEL_SIZE = 1 << 15;
+
+  private final long tickNanos;
+  private final int wheelBits;
+  private final int mask;
+  private final Bucket[][] wheels;
+  private final ExecutorService workers;
+  private final Queue<WheelTask<?>> pending = new ConcurrentLinkedQueue<>();
+  private final Queue<WheelTask<?>> cancelled = new ConcurrentLinkedQueue<>();
+  private final Thread ticker;
+  private final long startNanos;
+
+  // only accessed by the ticker thread
+  private long currentTick = 0;
+  private int scheduledCount = 0;
+  private boolean periodicCancelled = false;
+  private final List<Runnable> unexecuted = new ArrayList<>();
+
+  private volatile boolean shutdown = false;
+  private volatile boolean stopNow = false;
+  private volatile boolean tickerDone = false;
+
+  public HashedWheelScheduler(int workerThreads) {
+    this(1, TimeUnit.MILLISECONDS, 256, workerThreads);
+  }
+
+  /**
+   * @param tickDuration resolution of the wheel; tasks fire on the first tick at or after their
+   *     deadline
+   * @param wheelSize slots per level, between 2 and 2^15, rounded up to a power of two; four
+   *     levels cover {@code wheelSize^4} ticks, and longer delays are re-inserted when they come
+   *     around
+   */
+  public HashedWheelScheduler(
+      long tickDuration, TimeUnit unit, int wheelSize, int workerThreads) {
+    if (tickDuration <= 0 || wheelSize < 2 || workerThreads <= 0) {
+      throw new IllegalArgumentException("tickDuration, wheelSize and workerThreads must be positive");
+    }
+    if (wheelSize > MAX_WHEEL_SIZE) {
+      throw new IllegalArgumentException("wheelSize must be at most " + MAX_WHEEL_SIZE);
+    }
+    this.tickNanos = unit.toNanos(tickDuration);
+    this.wheelBits = 32 - Integer.numberOfLeadingZeros(wheelSize - 1);
+    this.mask = (1 << wheelBits) - 1;
+    this.wheels = new Bucket[LEVELS][1 << wheelBits];
+    for (Bucket[] wheel : wheels) {
+      for (int slot = 0; slot < wheel.length; slot++) {
+        wheel[slot] = new Bucket();
+      }
+    }
+    this.workers = Executors.newFixedThreadPool(workerThreads);
+    this.startNanos = System.nanoTime();
+    this.ticker = new Thread(this::runTicks, "wheel-ticker");
+    ticker.start();
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return enqueue(new WheelTask<Void>(command, null, triggerTime(delay, unit), 0));
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    return enqueue(new WheelTask<>(callable, triggerTime(delay, unit), 0));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(
+      Runnable command, long initialDelay, long period, TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("period must be positive");
+    }
+    return enqueue(
+        new WheelTask<Void>(command, null, triggerTime(initialDelay, unit), unit.toNanos(period)));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+      Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    if (delay <= 0) {
+      throw new IllegalArgumentException("delay must be positive");
+    }
+    return enqueue(
+        new WheelTask<Void>(command, null, triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    schedule(command, 0, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void shutdown() {
+    shutdown = true;
+    LockSupport.unpark(ticker);
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown = true;
+    stopNow = true;
+    LockSupport.unpark(ticker);
+    try {
+      ticker.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    List<Runnable> notExecuted = new ArrayList<>(unexecuted);
+    notExecuted.addAll(workers.shutdownNow());
+    return notExecuted;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return tickerDone && workers.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    ticker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+    return tickerDone
+        && workers.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+
+  private long triggerTime(long delay, TimeUnit unit) {
+    return System.nanoTime() + unit.toNanos(Math.max(0, delay));
+  }
+
+  private <V> WheelTask<V> enqueue(WheelTask<V> task) {
+    if (shutdown) {
+      throw new RejectedExecutionException("scheduler has been shut down");
+    }
+    pending.add(task);
+    if (tickerDone && pending.remove(task)) {
+      // the ticker exited between the shutdown check and the add
+      task.cancel(false);
+    }
+    return task;
+  }
+
+  private void reschedule(WheelTask<?> task) {
+    if (shutdown) {
+      task.cancel(false);
+      return;
+    }
+    pending.add(task);
+    if (tickerDone && pending.remove(task)) {
+      task.cancel(false);
+    }
+  }
+
+  private void runTicks() {
+    try {
+      while (!stopNow) {
+        long sleepNanos = startNanos + (currentTick + 1) * tickNanos - System.nanoTime();
+        if (sleepNanos > 0) {
+          LockSupport.parkNanos(this, sleepNanos);
+          continue;
+        }
+        currentTick++;
+        transferPending();
+        removeCancelled();
+        if (shutdown && !periodicCancelled) {
+          cancelPeriodic();
+        }
+        cascade();
+        expire(wheels[0][(int) (currentTick & mask)]);
+        if (shutdown && scheduledCount == 0 && pending.isEmpty()) {
+          break;
+        }
+      }
+    } finally {
+      tickerDone = true;
+      if (stopNow) {
+        for (Bucket[] wheel : wheels) {
+          for (Bucket bucket : wheel) {
+            for (WheelTask<?> task = bucket.detachAll(); task != null; task = task.next) {
+              unexecuted.add(task);
+            }
+          }
+        }
+      }
+      WheelTask<?> task;
+      while ((task = pending.poll()) != null) {
+        if (stopNow) {
+          unexecuted.add(task);
+        } else {
+          task.cancel(false);
+        }
+      }
+      workers.shutdown();
+    }
+  }
+
+  private void transferPending() {
+    WheelTask<?> task;
+    while ((task = pending.poll()) != null) {
+      if (!task.isCancelled()) {
+        place(task);
+      }
+    }
+  }
+
+  private void removeCancelled() {
+    WheelTask<?> task;
+    while ((task = cancelled.poll()) != null) {
+      if (task.bucket != null) {
+        task.bucket.remove(task);
+        scheduledCount--;
+      }
+    }
+  }
+
+  private void cancelPeriodic() {
+    periodicCancelled = true;
+    for (Bucket[] wheel : wheels) {
+      for (Bucket bucket : wheel) {
+        for (WheelTask<?> task = bucket.head; task != null; ) {
+          WheelTask<?> next = task.next;
+          if (task.isPeriodic()) {
+            bucket.remove(task);
+            scheduledCount--;
+            task.cancel(false);
+          }
+          task = next;
+        }
+      }
+    }
+  }
+
+  /** Moves the tasks of every level that just completed a rotation one level down, top first. */
+  private void cascade() {
+    int topLevel = 0;
+    while (topLevel < LEVELS - 1
+        && (currentTick & ((1L << (wheelBits * (topLevel + 1))) - 1)) == 0) {
+      topLevel++;
+    }
+    for (int level = topLevel; level > 0; level--) {
+      Bucket bucket = wheels[level][(int) ((currentTick >>> (wheelBits * level)) & mask)];
+      WheelTask<?> task = bucket.detachAll();
+      while (task != null) {
+        WheelTask<?> next = task.next;
+        scheduledCount--;
+        place(task);
+        task = next;
+      }
+    }
+  }
+
+  private void expire(Bucket bucket) {
+    WheelTask<?> task = bucket.detachAll();
+    while (task != null) {
+      WheelTask<?> next = task.next;
+      scheduledCount--;
+      if (task.isCancelled()) {
+        // dropped
+      } else if (deadlineTick(task) > currentTick) {
+        // delay was longer than the whole wheel; it has come around again
+        place(task);
+      } else {
+        try {
+          workers.execute(task);
+        } catch (RejectedExecutionException e) {
+          task.cancel(false);
+        }
+      }
+      task = next;
+    }
+  }
+
+  private void place(WheelTask<?> task) {
+    long deadlineTick = Math.max(currentTick, deadlineTick(task));
+    long delta = deadlineTick - currentTick;
+    int level = 0;
+    while (level < LEVELS - 1 && delta >= 1L << (wheelBits * (level + 1))) {
+      level++;
+    }
+    long placementTick = deadlineTick;
+    if (delta >= 1L << (wheelBits * LEVELS)) {
+      placementTick = currentTick + (1L << (wheelBits * LEVELS)) - 1;
+    }
+    wheels[level][(int) ((placementTick >>> (wheelBits * level)) & mask)].add(task);
+    scheduledCount++;
+  }
+
+  private long deadlineTick(WheelTask<?> task) {
+    long sinceStart = task.deadlineNanos - startNanos;
+    return sinceStart <= 0 ? 0 : (sinceStart + tickNanos - 1) / tickNanos;
+  }
+
+  /** Intrusive doubly linked list of the tasks sharing a slot; only touched by the ticker. */
+  private static final class Bucket {
+    private WheelTask<?> head;
+    private WheelTask<?> tail;
+
+    private void add(WheelTask<?> task) {
+      task.bucket = this;
+      task.prev = tail;
+      task.next = null;
+      if (tail == null) {
+        head = task;
+      } else {
+        tail.next = task;
+      }
+      tail = task;
+    }
+
+    private void remove(WheelTask<?> task) {
+      if (task.prev == null) {
+        head = task.next;
+      } else {
+        task.prev.next = task.next;
+      }
+      if (task.next == null) {
+        tail = task.prev;
+      } else {
+        task.next.prev = task.prev;
+      }
+      task.bucket = null;
+      task.prev = null;
+      task.next = null;
+    }
+
+    /** Empties the bucket and returns its first task; the tasks stay chained through {@code next}. */
+    private WheelTask<?> detachAll() {
+      WheelTask<?> first = head;
+      for (WheelTask<?> task = first; task != null; task = task.next) {
+        task.bucket = null;
+        task.prev = null;
+      }
+      head = null;
+      tail = null;
+      return first;
+    }
+  }
+
+  private final class WheelTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+    private volatile long deadlineNanos;
+
+    /** 0 for one-shot tasks, positive for fixed rate, negative for fixed delay. */
+    private final long period;
+
+    private Bucket bucket;
+    private WheelTask<?> prev;
+    private WheelTask<?> next;
+
+    private WheelTask(Callable<V> callable, long deadlineNanos, long period) {
+      super(callable);
+      this.deadlineNanos = deadlineNanos;
+      this.period = period;
+    }
+
+    private WheelTask(Runnable runnable, V result, long deadlineNanos, long period) {
+      super(runnable, result);
+      this.deadlineNanos = deadlineNanos;
+      this.period = period;
+    }
+
+    @Override
+    public boolean isPeriodic() {
+      return period != 0;
+    }
+
+    @Override
+    public void run() {
+      if (!isPeriodic()) {
+        super.run();
+      } else if (runAndReset()) {
+        deadlineNanos = period > 0 ? deadlineNanos + period : System.nanoTime() - period;
+        reschedule(this);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean wasCancelled = super.cancel(mayInterruptIfRunning);
+      if (wasCancelled && !tickerDone) {
+        cancelled.add(this);
+      }
+      return wasCancelled;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+}
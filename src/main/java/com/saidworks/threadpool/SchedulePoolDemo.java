@@ -4,8 +4,8 @@ package com.saidworks.threadpool;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -16,10 +16,14 @@ import org.apache.logging.log4j.Logger;
 public class SchedulePoolDemo {
   private static final Logger logger = LogManager.getLogger();
   private static final Random random = new Random();
-  private static final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(3);
   private static AtomicReference<String> atomicReference = new AtomicReference<>("default");
 
   public static void main(String[] args) throws ExecutionException, InterruptedException {
+    // pass --wheel to schedule on the timer wheel instead of the heap-based thread pool
+    ScheduledExecutorService executor =
+        args.length > 0 && args[0].equals("--wheel")
+            ? new HashedWheelScheduler(3)
+            : new ScheduledThreadPoolExecutor(3);
     List<String> listOfStrings =
         RandomStringWithQuestionMark.generateListOfStrings(10, random.nextInt(10, 100));
     logger.info("List of Strings: {}", listOfStrings);
@@ -30,23 +34,22 @@ public class SchedulePoolDemo {
       callables.add(new StringTaskCallable(s));
     }
     for (StringTaskCallable callable : callables) {
-      callable.setDaemon(true);
       ScheduledFuture<String> scheduledFuture =
-          executor.schedule((Callable<String>) callable, random.nextInt(1, 2), TimeUnit.SECONDS);
+          executor.schedule(callable, random.nextInt(1, 2), TimeUnit.SECONDS);
       String result = scheduledFuture.get();
 
       if (atomicReference.compareAndSet("default", result)) {
         logger.info("Scheduled Future: {}", atomicReference);
-        logger.info(
-            "Scheduled Future is done: {}, thread pool size is {}",
-            scheduledFuture.isDone(),
-            executor.getActiveCount());
-        logger.info("Scheduled future queue size: {}", executor.getQueue().size());
-        logger.info(
-            "Scheduled future remaining capacity: {}", executor.getQueue().remainingCapacity());
-        logger.info("Scheduled future task count: {}", executor.getTaskCount());
-        logger.info("Scheduled future completed task count: {}", executor.getCompletedTaskCount());
-        logger.info("Scheduled future largest pool size: {}", executor.getLargestPoolSize());
+        logger.info("Scheduled Future is done: {}", scheduledFuture.isDone());
+        if (executor instanceof ScheduledThreadPoolExecutor pool) {
+          logger.info("thread pool size is {}", pool.getActiveCount());
+          logger.info("Scheduled future queue size: {}", pool.getQueue().size());
+          logger.info(
+              "Scheduled future remaining capacity: {}", pool.getQueue().remainingCapacity());
+          logger.info("Scheduled future task count: {}", pool.getTaskCount());
+          logger.info("Scheduled future completed task count: {}", pool.getCompletedTaskCount());
+          logger.info("Scheduled future largest pool size: {}", pool.getLargestPoolSize());
+        }
         atomicReference.set("default");
       }
     }
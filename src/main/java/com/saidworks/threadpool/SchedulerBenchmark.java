@@ -0,0 +1,85 @@
+/* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
+package com.saidworks.threadpool;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Schedules a large number of timeouts, cancels half of them the way request timeouts usually are,
+ * and reports schedule/cancel throughput and how late the remaining ones fired for {@link
+ * ScheduledThreadPoolExecutor} and {@link HashedWheelScheduler}.
+ */
+public class SchedulerBenchmark {
+  private static final Logger logger = LogManager.getLogger();
+  private static final int NUMBER_OF_TIMEOUTS = 200_000;
+  private static final long MAX_DELAY_MILLIS = 2_000;
+  private static final int WORKER_THREADS = 3;
+
+  public static void main(String[] args) throws InterruptedException {
+    for (int round = 1; round <= 2; round++) {
+      run("ScheduledThreadPoolExecutor", () -> new ScheduledThreadPoolExecutor(WORKER_THREADS));
+      run("HashedWheelScheduler", () -> new HashedWheelScheduler(WORKER_THREADS));
+    }
+  }
+
+  private static void run(String name, Supplier<ScheduledExecutorService> factory)
+      throws InterruptedException {
+    ScheduledExecutorService executor = factory.get();
+    long[] latenessNanos = new long[NUMBER_OF_TIMEOUTS];
+    Arrays.fill(latenessNanos, -1);
+    CountDownLatch done = new CountDownLatch(NUMBER_OF_TIMEOUTS);
+    ScheduledFuture<?>[] futures = new ScheduledFuture<?>[NUMBER_OF_TIMEOUTS];
+
+    long start = System.nanoTime();
+    for (int i = 0; i < NUMBER_OF_TIMEOUTS; i++) {
+      int index = i;
+      long delayNanos =
+          TimeUnit.MILLISECONDS.toNanos(ThreadLocalRandom.current().nextLong(MAX_DELAY_MILLIS));
+      long deadline = System.nanoTime() + delayNanos;
+      futures[i] =
+          executor.schedule(
+              () -> {
+                latenessNanos[index] = System.nanoTime() - deadline;
+                done.countDown();
+              },
+              delayNanos,
+              TimeUnit.NANOSECONDS);
+    }
+    long scheduleNanos = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    for (int i = 0; i < NUMBER_OF_TIMEOUTS; i += 2) {
+      if (futures[i].cancel(false)) {
+        done.countDown();
+      }
+    }
+    long cancelNanos = System.nanoTime() - start;
+
+    done.await();
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    long[] fired = Arrays.stream(latenessNanos).filter(lateness -> lateness >= 0).sorted().toArray();
+    logger.info(
+        "{}: schedule {} ops/s, cancel {} ops/s, {} fired, lateness p50 {} us p99 {} us max {} us",
+        name,
+        String.format("%.0f", NUMBER_OF_TIMEOUTS * 1e9 / scheduleNanos),
+        String.format("%.0f", NUMBER_OF_TIMEOUTS / 2 * 1e9 / cancelNanos),
+        fired.length,
+        TimeUnit.NANOSECONDS.toMicros(percentile(fired, 0.50)),
+        TimeUnit.NANOSECONDS.toMicros(percentile(fired, 0.99)),
+        TimeUnit.NANOSECONDS.toMicros(fired.length == 0 ? 0 : fired[fired.length - 1]));
+  }
+
+  private static long percentile(long[] sorted, double fraction) {
+    return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, sorted.length * fraction)];
+  }
+}
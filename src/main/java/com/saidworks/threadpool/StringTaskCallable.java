@@ -3,7 +3,7 @@ package com.saidworks.threadpool;
 
 import java.util.concurrent.Callable;
 
-public class StringTaskCallable extends Thread implements Callable<String> {
+public class StringTaskCallable implements Callable<String> {
   private final String input;
 
   public StringTaskCallable(String input) {
@@ -12,6 +12,6 @@ public class StringTaskCallable extends Thread implements Callable<String> {
 
   @Override
   public String call() {
-    return this.input.replace("?", ".");
+    return this.input.replace('?', '.');
   }
 }
@@ -6,10 +6,12 @@ import java.util.*;
 public class AppMain {
   public static void main(String[] args) {
     Random rand = new Random();
-    Vault vault = new Vault(rand.nextInt());
+    Vault vault = new Vault(rand.nextInt(HackerThread.MAX_PASSWORD));
+    // pass --batch to let the hackers check adaptive ranges of guesses per call to the vault
+    boolean batched = args.length > 0 && args[0].equals("--batch");
     List<Thread> threads = new ArrayList<>();
-    threads.add(new AscendingHackerThread(vault));
-    threads.add(new DescendingHackerThread(vault));
+    threads.add(new AscendingHackerThread(vault, batched));
+    threads.add(new DescendingHackerThread(vault, batched));
     threads.add(new PoliceThread());
     for (Thread t : threads) {
       t.start();
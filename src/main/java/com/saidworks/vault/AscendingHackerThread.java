@@ -6,8 +6,16 @@ public class AscendingHackerThread extends HackerThread {
     super(vault);
   }
 
+  public AscendingHackerThread(Vault vault, boolean batched) {
+    super(vault, batched);
+  }
+
   @Override
   public void run() {
+    if (batched) {
+      runBatched();
+      return;
+    }
     for (int i = 0; i < MAX_PASSWORD; i++) {
       if (vault.isCorrectPassword(i)) {
         log.info("The {} thread has found the correct password and it is {}", this.getName(), i);
@@ -15,4 +23,18 @@ public class AscendingHackerThread extends HackerThread {
       }
     }
   }
+
+  private void runBatched() {
+    int batchSize = MIN_BATCH_SIZE;
+    for (int from = 0; from < MAX_PASSWORD; ) {
+      int to = Math.min(MAX_PASSWORD, from + batchSize);
+      long start = System.nanoTime();
+      int password = vault.findPasswordInRange(from, to);
+      if (password >= 0) {
+        passwordFound(password);
+      }
+      batchSize = adaptBatchSize(batchSize, System.nanoTime() - start);
+      from = to;
+    }
+  }
 }
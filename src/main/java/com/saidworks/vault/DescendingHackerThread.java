@@ -6,9 +6,17 @@ public class DescendingHackerThread extends HackerThread {
     super(vault);
   }
 
+  public DescendingHackerThread(Vault vault, boolean batched) {
+    super(vault, batched);
+  }
+
   @Override
   public void run() {
     log.info("The {} thread has started", this.getName());
+    if (batched) {
+      runBatched();
+      return;
+    }
     for (int guess = MAX_PASSWORD; guess > 0; guess--) {
       if (vault.isCorrectPassword(guess)) {
         log.info("Thread {} has found the correct password and it is {}", this.getName(), guess);
@@ -16,4 +24,18 @@ public class DescendingHackerThread extends HackerThread {
       }
     }
   }
+
+  private void runBatched() {
+    int batchSize = MIN_BATCH_SIZE;
+    for (int to = MAX_PASSWORD + 1; to > 1; ) {
+      int from = Math.max(1, to - batchSize);
+      long start = System.nanoTime();
+      int password = vault.findPasswordInRange(from, to);
+      if (password >= 0) {
+        passwordFound(password);
+      }
+      batchSize = adaptBatchSize(batchSize, System.nanoTime() - start);
+      to = from;
+    }
+  }
 }
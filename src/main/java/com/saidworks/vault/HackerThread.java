@@ -5,11 +5,24 @@ import org.apache.logging.log4j.*;
 
 public abstract class HackerThread extends Thread {
   public static final int MAX_PASSWORD = 9999;
+  static final int MIN_BATCH_SIZE = 1;
+  static final int MAX_BATCH_SIZE = 1024;
   Logger log = LogManager.getFormatterLogger(HackerThread.class.getName());
   protected Vault vault;
+  protected final boolean batched;
+  private long fastestBatchNanos = Long.MAX_VALUE;
 
   public HackerThread(Vault vault) {
+    this(vault, false);
+  }
+
+  /**
+   * @param batched when true the thread checks ranges of guesses per call to the vault, sizing
+   *     each range with {@link #adaptBatchSize(int, long)}
+   */
+  public HackerThread(Vault vault, boolean batched) {
     this.vault = vault;
+    this.batched = batched;
     this.setName(this.getClass().getSimpleName());
     this.setPriority(Thread.MIN_PRIORITY);
   }
@@ -19,4 +32,28 @@ public abstract class HackerThread extends Thread {
     log.info("The {} thread has started", this.getName());
     super.start();
   }
+
+  /**
+   * Picks the size of the next batch from how long the last one took. The fastest batch seen so
+   * far approximates the fixed round trip: while a batch costs less than two round trips the
+   * round trip still dominates, so the batch doubles; once it costs more than four round trips,
+   * checking the guesses clearly dominates and the batch halves to limit the guesses wasted past
+   * the password. Between two and four round trips the size is kept, so that timing noise around
+   * a single threshold does not make it flip back and forth.
+   */
+  protected int adaptBatchSize(int batchSize, long elapsedNanos) {
+    fastestBatchNanos = Math.min(fastestBatchNanos, elapsedNanos);
+    if (elapsedNanos < 2 * fastestBatchNanos) {
+      return Math.min(MAX_BATCH_SIZE, batchSize * 2);
+    }
+    if (elapsedNanos > 4 * fastestBatchNanos) {
+      return Math.max(MIN_BATCH_SIZE, batchSize / 2);
+    }
+    return batchSize;
+  }
+
+  protected void passwordFound(int password) {
+    log.info("Thread {} has found the correct password and it is {}", this.getName(), password);
+    System.exit(0);
+  }
 }
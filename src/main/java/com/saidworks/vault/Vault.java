@@ -1,16 +1,60 @@
 /* ADSK  | Product Accesss SZ Q2 Goal (C)2025 */
 package com.saidworks.vault;
 
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import org.apache.logging.log4j.*;
 
 public record Vault(int password) {
+  /** Simulated fixed cost of one call to the vault, paid once per single guess or per batch. */
+  public static final long ROUND_TRIP_MILLIS = 5;
+
+  /** Simulated cost of comparing one guess once the request has reached the vault. */
+  public static final long CHECK_NANOS_PER_GUESS = TimeUnit.MICROSECONDS.toNanos(20);
+
+  private static final Logger log = LogManager.getFormatterLogger(Vault.class.getName());
+
   public boolean isCorrectPassword(int guess) {
-    Logger log = LogManager.getFormatterLogger(Vault.class.getName());
+    simulateRoundTrip(1);
+    return password == guess;
+  }
+
+  /**
+   * Checks every guess of the array in a single round trip.
+   *
+   * @return a bit set where bit {@code i} is set when {@code guesses[i]} is the password
+   */
+  public BitSet checkPasswords(int[] guesses) {
+    simulateRoundTrip(guesses.length);
+    BitSet matches = new BitSet(guesses.length);
+    for (int i = 0; i < guesses.length; i++) {
+      if (guesses[i] == password) {
+        matches.set(i);
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * Checks the whole range {@code [fromInclusive, toExclusive)} in a single round trip.
+   *
+   * @return the password if it falls in the range, otherwise -1
+   */
+  public int findPasswordInRange(int fromInclusive, int toExclusive) {
+    if (toExclusive <= fromInclusive) {
+      return -1;
+    }
+    simulateRoundTrip(toExclusive - fromInclusive);
+    return password >= fromInclusive && password < toExclusive ? password : -1;
+  }
+
+  private static void simulateRoundTrip(int guesses) {
     try {
-      Thread.sleep(5);
+      Thread.sleep(ROUND_TRIP_MILLIS);
     } catch (InterruptedException e) {
       log.error("Vault thread has been interrupted because of exception {}", e.getMessage());
     }
-    return password == guess;
+    LockSupport.parkNanos(guesses * CHECK_NANOS_PER_GUESS);
   }
 }